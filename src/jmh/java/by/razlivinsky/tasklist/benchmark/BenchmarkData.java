@@ -0,0 +1,112 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import by.razlivinsky.tasklist.domain.task.Status;
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.user.Role;
+import by.razlivinsky.tasklist.domain.user.User;
+import by.razlivinsky.tasklist.repository.UserRepository;
+import by.razlivinsky.tasklist.service.impl.ActiveUserIndex;
+import by.razlivinsky.tasklist.service.props.UserProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * BenchmarkData class builds the synthetic tasks and users the benchmarks run on.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+final class BenchmarkData {
+    static final LocalDateTime BASE_EXPIRATION_DATE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates one synthetic task.
+     *
+     * @param id the ID of the task
+     * @return the task with every field set
+     */
+    static Task task(long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Description of task " + id);
+        task.setStatus(Status.values()[(int) (id % Status.values().length)]);
+        task.setExpirationDate(BASE_EXPIRATION_DATE.plusMinutes(id));
+        return task;
+    }
+
+    /**
+     * Creates synthetic tasks with consecutive IDs starting at 1.
+     *
+     * @param count the number of tasks
+     * @return the tasks
+     */
+    static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            tasks.add(task(id));
+        }
+        return tasks;
+    }
+
+    /**
+     * Creates a synthetic user with both roles.
+     *
+     * @param tasks the tasks of the user
+     * @return the user
+     */
+    static User user(List<Task> tasks) {
+        User user = new User();
+        user.setId(1L);
+        user.setName("Benchmark User");
+        user.setUsername("benchmark@tasklist.by");
+        user.setPassword("$2a$10$Xl0yhvzLIaJCDdKBS0Lld.ksK7c2Zytg/ZKFdtIYYQUv8rUfvCR4W");
+        user.setRoles(Set.of(Role.ROLE_USER, Role.ROLE_ADMIN));
+        user.setTasks(tasks);
+        return user;
+    }
+
+    /**
+     * Creates an active user index reporting every user as active, backed by neither a database nor transactions.
+     *
+     * @return the active user index
+     */
+    static ActiveUserIndex allUsersActive() {
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("isActive")) {
+                        return Boolean.TRUE;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        PlatformTransactionManager transactionManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+        return new ActiveUserIndex(userRepository, transactionManager, new UserProperties(),
+                new SimpleMeterRegistry());
+    }
+}
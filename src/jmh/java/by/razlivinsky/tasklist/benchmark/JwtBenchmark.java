@@ -0,0 +1,100 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import by.razlivinsky.tasklist.domain.user.User;
+import by.razlivinsky.tasklist.service.props.JwtProperties;
+import by.razlivinsky.tasklist.web.security.JwtEntityFactory;
+import by.razlivinsky.tasklist.web.security.JwtTokenProvider;
+import by.razlivinsky.tasklist.web.security.JwtTokenVerifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtBenchmark class measures token issuance, validation and the validate-and-authenticate path of
+ * JwtTokenProvider, with and without the cache of verified tokens and in both authentication modes.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+    static final String SECRET = "bmRmYnZ2amZudmp2anZqdm12YmR4aHhoZ2dzY3NseHBjb2NpdWRjZ3N2c2J4Y21ja0hGSEZIQkNCRkJGSEhOQ05DTkNNQ0tY";
+
+    @Param({"true", "false"})
+    private boolean verificationCache;
+
+    @Param({"CLAIMS", "DATABASE"})
+    private JwtProperties.AuthenticationMode authentication;
+
+    private JwtTokenProvider tokenProvider;
+    private User user;
+    private String accessToken;
+
+    /**
+     * Builds the token provider and issues the token that is validated.
+     * In the DATABASE mode the user is served from memory, so only the provider's own work is measured.
+     */
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setAccess(TimeUnit.HOURS.toMillis(1));
+        jwtProperties.setRefresh(TimeUnit.DAYS.toMillis(30));
+        jwtProperties.setAuthentication(authentication);
+        jwtProperties.getVerificationCache().setEnabled(verificationCache);
+        user = BenchmarkData.user(List.of());
+        JwtTokenVerifier tokenVerifier = new JwtTokenVerifier(jwtProperties, new SimpleMeterRegistry());
+        tokenProvider = new JwtTokenProvider(jwtProperties, username -> JwtEntityFactory.create(user), null,
+                BenchmarkData.allUsersActive(), tokenVerifier);
+        tokenProvider.init();
+        accessToken = createAccessToken();
+    }
+
+    /**
+     * Issues an access token.
+     *
+     * @return the access token
+     */
+    @Benchmark
+    public String createAccessToken() {
+        return tokenProvider.createAccessToken(user.getId(), user.getUsername(), user.getRoles());
+    }
+
+    /**
+     * Validates a token seen before.
+     *
+     * @return true if the token is valid
+     */
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    /**
+     * Verifies a token seen before and builds the authentication of the request from it.
+     *
+     * @return the authentication
+     */
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(accessToken);
+    }
+}
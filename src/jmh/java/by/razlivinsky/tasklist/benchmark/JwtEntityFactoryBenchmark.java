@@ -0,0 +1,77 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import by.razlivinsky.tasklist.domain.user.User;
+import by.razlivinsky.tasklist.service.props.JwtProperties;
+import by.razlivinsky.tasklist.web.security.JwtEntity;
+import by.razlivinsky.tasklist.web.security.JwtEntityFactory;
+import by.razlivinsky.tasklist.web.security.JwtTokenProvider;
+import by.razlivinsky.tasklist.web.security.JwtTokenVerifier;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtEntityFactoryBenchmark class measures building the security principal from a loaded user
+ * and from the claims of a verified token.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtEntityFactoryBenchmark {
+    private User user;
+    private Claims claims;
+
+    /**
+     * Builds the user and the claims of a token issued for it.
+     */
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(JwtBenchmark.SECRET);
+        jwtProperties.setAccess(TimeUnit.HOURS.toMillis(1));
+        user = BenchmarkData.user(List.of());
+        JwtTokenVerifier tokenVerifier = new JwtTokenVerifier(jwtProperties, new SimpleMeterRegistry());
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(jwtProperties, username -> null, null,
+                BenchmarkData.allUsersActive(), tokenVerifier);
+        tokenProvider.init();
+        claims = tokenVerifier.verify(tokenProvider.createAccessToken(user.getId(), user.getUsername(), user.getRoles()));
+    }
+
+    /**
+     * Builds the principal from a loaded user.
+     *
+     * @return the principal
+     */
+    @Benchmark
+    public JwtEntity createFromUser() {
+        return JwtEntityFactory.create(user);
+    }
+
+    /**
+     * Builds the principal from token claims.
+     *
+     * @return the principal
+     */
+    @Benchmark
+    public JwtEntity createFromClaims() {
+        return JwtEntityFactory.create(claims);
+    }
+}
@@ -0,0 +1,171 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import by.razlivinsky.tasklist.TasklistApplication;
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.user.Role;
+import by.razlivinsky.tasklist.domain.user.User;
+import by.razlivinsky.tasklist.repository.TaskRepository;
+import by.razlivinsky.tasklist.repository.UserRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RepositoryEngineBenchmark class compares the MyBatis and JDBC repository engines on the hot read paths,
+ * running the application against an embedded PostgreSQL with one user owning the given number of tasks.
+ * The engine is selected with the tasklist.repository.engine property, exactly as in production.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryEngineBenchmark {
+    private static final String SCHEMA = "tasklist";
+    private static final String USERNAME = "postgres";
+    private static final int BATCH_SIZE = 500;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"mybatis", "jdbc"})
+    private String engine;
+
+    @Param({"1000"})
+    private int tasks;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private UserRepository userRepository;
+    private Long userId;
+    private String username;
+    private Long taskId;
+    private TaskCriteria criteria;
+
+    /**
+     * Starts the database and the application with the engine, and creates the user and the tasks.
+     *
+     * @throws Exception if the database or the application cannot be started
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        }
+        context = SpringApplication.run(TasklistApplication.class,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(USERNAME, USERNAME) + "&currentSchema=" + SCHEMA,
+                "--spring.datasource.username=" + USERNAME,
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--tasklist.repository.engine=" + engine);
+        taskRepository = context.getBean(TaskRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+
+        User user = new User();
+        user.setName("Benchmark User");
+        user.setUsername("repository-benchmark@tasklist.by");
+        user.setPassword("$2a$10$Xl0yhvzLIaJCDdKBS0Lld.ksK7c2Zytg/ZKFdtIYYQUv8rUfvCR4W");
+        userRepository.create(user);
+        userRepository.insertUserRole(user.getId(), Role.ROLE_USER);
+        userId = user.getId();
+        username = user.getUsername();
+
+        List<Task> taskList = BenchmarkData.tasks(tasks);
+        taskList.forEach(task -> task.setId(null));
+        List<Long> ids = new ArrayList<>(tasks);
+        for (int from = 0; from < taskList.size(); from += BATCH_SIZE) {
+            ids.addAll(taskRepository.createAll(taskList.subList(from, Math.min(from + BATCH_SIZE, taskList.size())),
+                    userId));
+        }
+        taskId = ids.get(ids.size() / 2);
+        criteria = new TaskCriteria();
+    }
+
+    /**
+     * Stops the application and the database.
+     *
+     * @throws Exception if the database cannot be stopped
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        postgres.close();
+    }
+
+    /**
+     * Reads a task by ID.
+     *
+     * @return the task
+     */
+    @Benchmark
+    public Optional<Task> taskFindById() {
+        return taskRepository.findById(taskId, userId);
+    }
+
+    /**
+     * Reads the first page of the user's tasks.
+     *
+     * @return the tasks of the page
+     */
+    @Benchmark
+    public List<Task> taskFindPageByUserId() {
+        return taskRepository.findPageByUserId(userId, criteria, null, PAGE_SIZE);
+    }
+
+    /**
+     * Reads all of the user's tasks.
+     *
+     * @return the tasks
+     */
+    @Benchmark
+    public List<Task> taskFindAllByUserId() {
+        return taskRepository.findAllByUserId(userId);
+    }
+
+    /**
+     * Reads the login principal of the user.
+     *
+     * @return the principal
+     */
+    @Benchmark
+    public Optional<User> userFindPrincipalByUsername() {
+        return userRepository.findPrincipalByUsername(username);
+    }
+
+    /**
+     * Checks the ownership of a task.
+     *
+     * @return true if the user owns the task
+     */
+    @Benchmark
+    public boolean userIsTaskOwner() {
+        return userRepository.isTaskOwner(userId, taskId);
+    }
+}
@@ -0,0 +1,103 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.user.Role;
+import by.razlivinsky.tasklist.domain.user.User;
+import by.razlivinsky.tasklist.repository.mappers.TaskRowMapper;
+import by.razlivinsky.tasklist.repository.mappers.UserRowMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RowMapperBenchmark class measures the JDBC row mappers over synthetic result sets:
+ * TaskRowMapper.mapRows over one row per task and UserRowMapper.mapRow over the single row of the user aggregate.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMapperBenchmark {
+    @Param({"10", "1000"})
+    private int tasks;
+
+    private SyntheticResultSet taskRows;
+    private SyntheticResultSet userRow;
+
+    /**
+     * Builds the task rows and the user aggregate row.
+     *
+     * @throws Exception if the tasks cannot be written as JSON
+     */
+    @Setup
+    public void setUp() throws Exception {
+        List<Task> taskList = BenchmarkData.tasks(tasks);
+        List<Map<String, Object>> rows = new ArrayList<>(tasks);
+        for (Task task : taskList) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("task_id", task.getId());
+            row.put("task_title", task.getTitle());
+            row.put("task_description", task.getDescription());
+            row.put("task_status", task.getStatus().name());
+            row.put("task_expiration_date", Timestamp.valueOf(task.getExpirationDate()));
+            rows.add(row);
+        }
+        taskRows = new SyntheticResultSet(List.of("task_id", "task_title", "task_description",
+                "task_expiration_date", "task_status"), rows);
+
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Map<String, Object> row = new HashMap<>();
+        row.put("user_id", 1L);
+        row.put("user_name", "Benchmark User");
+        row.put("user_username", "benchmark@tasklist.by");
+        row.put("user_password", "$2a$10$Xl0yhvzLIaJCDdKBS0Lld.ksK7c2Zytg/ZKFdtIYYQUv8rUfvCR4W");
+        row.put("user_roles", SyntheticResultSet.array(new Object[]{Role.ROLE_USER.name(), Role.ROLE_ADMIN.name()}));
+        row.put("user_tasks", mapper.writeValueAsString(taskList));
+        userRow = new SyntheticResultSet(List.of(row));
+    }
+
+    /**
+     * Maps one task per row.
+     *
+     * @return the mapped tasks
+     */
+    @Benchmark
+    public List<Task> taskRowMapperMapRows() {
+        return TaskRowMapper.mapRows(taskRows.rewind());
+    }
+
+    /**
+     * Maps the user aggregate row, decoding the roles array and the tasks JSON.
+     *
+     * @return the mapped user
+     */
+    @Benchmark
+    public User userRowMapperMapRow() {
+        return UserRowMapper.mapRow(userRow.rewind());
+    }
+}
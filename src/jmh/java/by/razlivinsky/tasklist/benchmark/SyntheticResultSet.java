@@ -0,0 +1,115 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SyntheticResultSet class serves fixed rows through the ResultSet interface, so that row mappers can be measured
+ * without a database. Only the forward-only accessors the row mappers use are supported.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+final class SyntheticResultSet implements InvocationHandler {
+    private final List<String> columns;
+    private final List<Map<String, Object>> rows;
+    private final ResultSet resultSet;
+    private int position;
+    private Object lastValue;
+
+    /**
+     * Constructs a new SyntheticResultSet over the rows, keyed by column label, whose columns are read by label.
+     *
+     * @param rows the rows to serve
+     */
+    SyntheticResultSet(List<Map<String, Object>> rows) {
+        this(List.of(), rows);
+    }
+
+    /**
+     * Constructs a new SyntheticResultSet over the rows, keyed by column label, whose columns may also be read
+     * by their position in the column list.
+     *
+     * @param columns the column labels in select order
+     * @param rows    the rows to serve
+     */
+    SyntheticResultSet(List<String> columns, List<Map<String, Object>> rows) {
+        this.columns = columns;
+        this.rows = rows;
+        this.resultSet = (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, this);
+    }
+
+    /**
+     * Creates a SQL array whose getArray returns the elements.
+     *
+     * @param elements the elements of the array
+     * @return the SQL array
+     */
+    static Array array(Object[] elements) {
+        return (Array) Proxy.newProxyInstance(Array.class.getClassLoader(), new Class<?>[]{Array.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getArray" -> elements;
+                    case "free" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Rewinds the result set before the first row and returns it.
+     *
+     * @return the result set
+     */
+    ResultSet rewind() {
+        position = -1;
+        lastValue = null;
+        return resultSet;
+    }
+
+    /**
+     * Dispatches a ResultSet call to the current row.
+     *
+     * @param proxy  the result set proxy
+     * @param method the called method
+     * @param args   the arguments of the call
+     * @return the result of the call
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "next":
+                return ++position < rows.size();
+            case "wasNull":
+                return lastValue == null;
+            case "close":
+                return null;
+            case "getLong":
+                lastValue = column(args);
+                return lastValue == null ? 0L : ((Number) lastValue).longValue();
+            case "getString":
+            case "getTimestamp":
+            case "getArray":
+            case "getObject":
+                lastValue = column(args);
+                return lastValue;
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    /**
+     * Reads the column of the current row named, or numbered from 1, by the first argument.
+     *
+     * @param args the arguments of the call
+     * @return the value of the column
+     */
+    private Object column(Object[] args) {
+        String label = args[0] instanceof Integer index ? columns.get(index - 1) : (String) args[0];
+        return rows.get(position).get(label);
+    }
+}
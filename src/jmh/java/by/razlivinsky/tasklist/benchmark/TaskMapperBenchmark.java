@@ -0,0 +1,58 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.web.dto.task.TaskDto;
+import by.razlivinsky.tasklist.web.mappers.TaskMapper;
+import by.razlivinsky.tasklist.web.mappers.TaskMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskMapperBenchmark class measures the MapStruct conversion of task lists to DTOs.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+    @Param({"50", "1000"})
+    private int tasks;
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private List<Task> taskList;
+
+    /**
+     * Builds the tasks to convert.
+     */
+    @Setup
+    public void setUp() {
+        taskList = BenchmarkData.tasks(tasks);
+    }
+
+    /**
+     * Converts the task list to DTOs.
+     *
+     * @return the DTOs
+     */
+    @Benchmark
+    public List<TaskDto> toDto() {
+        return taskMapper.toDto(taskList);
+    }
+}
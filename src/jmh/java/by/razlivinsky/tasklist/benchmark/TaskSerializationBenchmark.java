@@ -0,0 +1,74 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import by.razlivinsky.tasklist.web.dto.task.TaskDto;
+import by.razlivinsky.tasklist.web.mappers.TaskMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskSerializationBenchmark class measures the Jackson serialization of task DTO lists,
+ * including the formatting of the expiration date with its @JsonFormat pattern.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+    @Param({"50", "1000"})
+    private int tasks;
+
+    private ObjectMapper objectMapper;
+    private List<TaskDto> dtos;
+
+    /**
+     * Builds an object mapper configured like the application's and the DTOs to serialize.
+     */
+    @Setup
+    public void setUp() {
+        objectMapper = applicationObjectMapper();
+        dtos = new TaskMapperImpl().toDto(BenchmarkData.tasks(tasks));
+    }
+
+    /**
+     * Creates an object mapper with the modules and the default property filters of the application.
+     *
+     * @return the object mapper
+     */
+    static ObjectMapper applicationObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .build();
+    }
+
+    /**
+     * Serializes the DTO list to bytes.
+     *
+     * @return the JSON bytes
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public byte[] writeTaskDtoList() throws IOException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
@@ -0,0 +1,146 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.service.TaskService;
+import by.razlivinsky.tasklist.web.mappers.TaskMapper;
+import by.razlivinsky.tasklist.web.mappers.TaskMapperImpl;
+import by.razlivinsky.tasklist.web.stream.TaskStreamWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * TaskStreamingBenchmark class compares writing a user's tasks as a materialized list against streaming them
+ * through TaskStreamWriter. Tasks are produced in memory one at a time, standing in for the database cursor, so the
+ * difference in time and in allocation (reported by the gc profiler) is the cost of materializing the list.
+ * TaskStreamingDatabaseBenchmark runs the same comparison through the database cursor.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class TaskStreamingBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int tasks;
+
+    private ObjectMapper objectMapper;
+    private TaskMapper taskMapper;
+    private TaskStreamWriter taskStreamWriter;
+    private HttpServletResponse response;
+
+    /**
+     * Builds the stream writer over a task service producing synthetic tasks, and a response discarding its body.
+     */
+    @Setup
+    public void setUp() {
+        objectMapper = TaskSerializationBenchmark.applicationObjectMapper();
+        taskMapper = new TaskMapperImpl();
+        taskStreamWriter = new TaskStreamWriter(objectMapper, streamingTaskService(), taskMapper);
+        response = discardingResponse();
+    }
+
+    /**
+     * Reads all tasks into a list, converts it to DTOs and serializes the list, as the list endpoint does.
+     *
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public void listPath() throws IOException {
+        List<Task> taskList = BenchmarkData.tasks(tasks);
+        objectMapper.writeValue(OutputStream.nullOutputStream(), taskMapper.toDto(taskList));
+    }
+
+    /**
+     * Streams the tasks as one JSON array.
+     *
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public void streamJsonArray() throws IOException {
+        taskStreamWriter.writeJsonArray(1L, new TaskCriteria(), response);
+    }
+
+    /**
+     * Streams the tasks as newline-delimited JSON.
+     *
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public void streamNdjson() throws IOException {
+        taskStreamWriter.writeNdjson(1L, new TaskCriteria(), response);
+    }
+
+    /**
+     * Creates a task service whose streamAllByUserId hands synthetic tasks to the consumer one at a time.
+     *
+     * @return the task service
+     */
+    @SuppressWarnings("unchecked")
+    private TaskService streamingTaskService() {
+        return (TaskService) Proxy.newProxyInstance(TaskService.class.getClassLoader(),
+                new Class<?>[]{TaskService.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("streamAllByUserId")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    Consumer<Task> consumer = (Consumer<Task>) args[2];
+                    for (long id = 1; id <= tasks; id++) {
+                        consumer.accept(BenchmarkData.task(id));
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Creates a response whose output stream discards everything written to it.
+     *
+     * @return the response
+     */
+    static HttpServletResponse discardingResponse() {
+        ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+        return (HttpServletResponse) Proxy.newProxyInstance(HttpServletResponse.class.getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class},
+                (proxy, method, args) -> method.getName().equals("getOutputStream") ? outputStream : null);
+    }
+}
@@ -0,0 +1,177 @@
+package by.razlivinsky.tasklist.benchmark;
+
+import by.razlivinsky.tasklist.TasklistApplication;
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.user.Role;
+import by.razlivinsky.tasklist.domain.user.User;
+import by.razlivinsky.tasklist.repository.UserRepository;
+import by.razlivinsky.tasklist.service.TaskService;
+import by.razlivinsky.tasklist.web.mappers.TaskMapper;
+import by.razlivinsky.tasklist.web.stream.TaskStreamWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskStreamingDatabaseBenchmark class compares the list path with the streaming paths end to end, running the
+ * application against an embedded PostgreSQL with one user owning the given number of tasks. The list path reads
+ * every task into a list before serializing it; the streaming paths read them through the MyBatis cursor with the
+ * configured fetch size. Allocation per operation is reported by the gc profiler, and the fork's heap is capped,
+ * so a path that holds the whole list shows up as GC time, or fails, at the largest size.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class TaskStreamingDatabaseBenchmark {
+    private static final String SCHEMA = "tasklist";
+    private static final String USERNAME = "postgres";
+
+    @Param({"1000", "100000", "1000000"})
+    private int tasks;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskStreamWriter taskStreamWriter;
+    private TaskMapper taskMapper;
+    private ObjectMapper objectMapper;
+    private HttpServletResponse response;
+    private Long userId;
+
+    /**
+     * Starts the database and the application, and imports the user's tasks through COPY. The background
+     * workers that would compete with the reads are disabled.
+     *
+     * @throws Exception if the database or the application cannot be started
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        }
+        context = SpringApplication.run(TasklistApplication.class,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(USERNAME, USERNAME) + "&currentSchema=" + SCHEMA,
+                "--spring.datasource.username=" + USERNAME,
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--tasklist.tasks.stream.enabled=false",
+                "--tasklist.users.purge.enabled=false",
+                "--tasklist.outbox.enabled=false");
+        taskService = context.getBean(TaskService.class);
+        taskStreamWriter = context.getBean(TaskStreamWriter.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        response = TaskStreamingBenchmark.discardingResponse();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        User user = new User();
+        user.setName("Benchmark User");
+        user.setUsername("streaming-benchmark@tasklist.by");
+        user.setPassword("$2a$10$Xl0yhvzLIaJCDdKBS0Lld.ksK7c2Zytg/ZKFdtIYYQUv8rUfvCR4W");
+        userRepository.create(user);
+        userRepository.insertUserRole(user.getId(), Role.ROLE_USER);
+        userId = user.getId();
+        taskService.importAll(syntheticTasks(tasks), userId);
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+
+    /**
+     * Stops the application and the database.
+     *
+     * @throws Exception if the database cannot be stopped
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        postgres.close();
+    }
+
+    /**
+     * Reads all tasks into a list, converts it to DTOs and serializes the list, as the list endpoint does.
+     *
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public void listPath() throws IOException {
+        List<Task> taskList = taskService.getAllByUserId(userId);
+        objectMapper.writeValue(OutputStream.nullOutputStream(), taskMapper.toDto(taskList));
+    }
+
+    /**
+     * Streams the tasks from the database cursor as one JSON array.
+     *
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public void streamJsonArray() throws IOException {
+        taskStreamWriter.writeJsonArray(userId, new TaskCriteria(), response);
+    }
+
+    /**
+     * Streams the tasks from the database cursor as newline-delimited JSON.
+     *
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public void streamNdjson() throws IOException {
+        taskStreamWriter.writeNdjson(userId, new TaskCriteria(), response);
+    }
+
+    /**
+     * Creates an iterator producing the synthetic tasks one at a time, so that importing them needs no list.
+     *
+     * @param count the number of tasks
+     * @return the iterator
+     */
+    private static Iterator<Task> syntheticTasks(int count) {
+        return new Iterator<>() {
+            private long next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return next <= count;
+            }
+
+            @Override
+            public Task next() {
+                return BenchmarkData.task(next++);
+            }
+        };
+    }
+}
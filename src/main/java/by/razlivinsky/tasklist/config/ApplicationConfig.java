@@ -1,5 +1,7 @@
 package by.razlivinsky.tasklist.config;
 
+import by.razlivinsky.tasklist.service.props.PasswordProperties;
+import by.razlivinsky.tasklist.web.security.CalibratedBCryptPasswordEncoder;
 import by.razlivinsky.tasklist.web.security.JwtTokenFilter;
 import by.razlivinsky.tasklist.web.security.JwtTokenProvider;
 import io.swagger.v3.oas.models.Components;
@@ -15,14 +17,17 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 /**
  * ApplicationConfig class is responsible for configuring security beans using Spring Security.
  *
@@ -31,19 +36,35 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  */
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor(onConstructor = @__(@Lazy))
 public class ApplicationConfig {
+    private static final String BCRYPT_ID = "bcrypt";
+
     private final JwtTokenProvider tokenProvider;
     private final ApplicationContext context;
 
     /**
-     * Password encoder bean for encoding passwords using BCryptPasswordEncoder.
+     * Password encoder bean for encoding passwords using BCrypt with a fixed or calibrated work factor.
+     * New hashes are prefixed with the {bcrypt} encoder ID; hashes stored without an ID are matched as BCrypt.
+     * Hashes without the ID or with another work factor are reported as needing an upgrade.
      *
+     * @param passwordProperties the password properties holding the work factor settings
      * @return the password encoder bean
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordProperties passwordProperties) {
+        CalibratedBCryptPasswordEncoder bcrypt;
+        if (passwordProperties.getEncoder() == PasswordProperties.EncoderMode.CALIBRATING) {
+            PasswordProperties.Calibration calibration = passwordProperties.getCalibration();
+            bcrypt = CalibratedBCryptPasswordEncoder.calibrate(calibration.getLatencyBudget(),
+                    calibration.getMinStrength(), calibration.getMaxStrength());
+        } else {
+            bcrypt = new CalibratedBCryptPasswordEncoder(passwordProperties.getStrength());
+        }
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
 
     /**
@@ -120,6 +141,10 @@ public class ApplicationConfig {
                 .permitAll()
                 .requestMatchers("/v3/api-docs/**")
                 .permitAll()
+                .requestMatchers("/actuator/health")
+                .permitAll()
+                .requestMatchers("/actuator/**")
+                .hasRole("ADMIN")
                 .anyRequest()
                 .authenticated()
                 .and()
@@ -0,0 +1,62 @@
+package by.razlivinsky.tasklist.config;
+
+import by.razlivinsky.tasklist.service.props.ReplicaProperties;
+import by.razlivinsky.tasklist.service.props.TaskProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * CachingConfig class is responsible for configuring the application's in-process caches.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+@EnableCaching
+@RequiredArgsConstructor
+public class CachingConfig {
+    public static final String TASKS_CACHE = "tasks";
+
+    private final TaskProperties taskProperties;
+
+    /**
+     * Cache manager bean holding the bounded cache of tasks read by ID.
+     * Puts and evictions made inside a transaction are applied after it commits. The cache also rejects entries
+     * loaded before an eviction became visible to every read, including reads served by a lagging replica, so that
+     * a read racing with an update cannot cache the old task once the update is evicted. A no-op cache manager
+     * is used when the task cache is disabled. The cache is created eagerly and its statistics are published
+     * as metrics.
+     *
+     * @param replicaProperties the replica properties holding the maximum lag of reads served by the replica
+     * @param meterRegistry     the registry the cache metrics are registered in
+     * @return the cache manager bean
+     */
+    @Bean
+    public CacheManager cacheManager(ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        TaskProperties.Cache cache = taskProperties.getCache();
+        if (!cache.isEnabled()) {
+            return new NoOpCacheManager();
+        }
+        StampedTaskCache tasksCache = new StampedTaskCache(TASKS_CACHE, cache.getMaximumSize(),
+                cache.getExpireAfterWrite(),
+                replicaProperties.isEnabled() ? replicaProperties.getMaxLag() : Duration.ZERO);
+        CaffeineCacheMetrics.monitor(meterRegistry, tasksCache.getNativeCache(), TASKS_CACHE,
+                Tags.of("cache.manager", "cacheManager"));
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(tasksCache));
+        cacheManager.initializeCaches();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,113 @@
+package by.razlivinsky.tasklist.config;
+
+import by.razlivinsky.tasklist.repository.routing.ReplicaLagMonitor;
+import by.razlivinsky.tasklist.repository.routing.ReplicaRoutingDataSource;
+import by.razlivinsky.tasklist.service.props.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSourceRoutingConfig class is responsible for configuring the primary and replica connection pools and the
+ * routing data source in front of them when the replica is enabled. The primary pool is configured from
+ * spring.datasource and the replica pool from tasklist.datasource.replica, each with its own Hikari settings.
+ * A replica without a URL connects to the primary, so that a single instance can act as both.
+ * Both pools are named, so their Hikari metrics are published per pool.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasklist.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    public static final String PRIMARY_POOL = "primary";
+    public static final String REPLICA_POOL = "replica";
+
+    /**
+     * Primary data source bean holding the pool of connections to the primary.
+     *
+     * @param dataSourceProperties the spring.datasource properties
+     * @return the primary data source bean
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(PRIMARY_POOL);
+        return dataSource;
+    }
+
+    /**
+     * Replica data source bean holding the pool of read-only connections to the replica.
+     *
+     * @param dataSourceProperties the spring.datasource properties the replica falls back to
+     * @param replicaProperties    the replica properties
+     * @return the replica data source bean
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "tasklist.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              ReplicaProperties replicaProperties) {
+        boolean sameInstance = replicaProperties.getUrl() == null;
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(sameInstance ? dataSourceProperties.determineUrl() : replicaProperties.getUrl())
+                .username(sameInstance ? dataSourceProperties.determineUsername() : replicaProperties.getUsername())
+                .password(sameInstance ? dataSourceProperties.determinePassword() : replicaProperties.getPassword())
+                .build();
+        dataSource.setPoolName(REPLICA_POOL);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Replica lag monitor bean probing the replica at the configured interval.
+     *
+     * @param primaryDataSource the primary data source
+     * @param replicaDataSource the replica data source
+     * @param replicaProperties the replica properties holding the lag settings
+     * @param meterRegistry     the meter registry
+     * @return the replica lag monitor bean
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               HikariDataSource replicaDataSource,
+                                               ReplicaProperties replicaProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, replicaProperties.getMaxLag(),
+                replicaProperties.getLagCheckInterval(), meterRegistry);
+    }
+
+    /**
+     * Data source bean used by the repositories, the transaction manager and Liquibase. Connections are obtained
+     * lazily on the first statement, when the read-only flag of the transaction is known, and routed to the
+     * replica or the primary accordingly.
+     *
+     * @param primaryDataSource the primary data source
+     * @param replicaDataSource the replica data source
+     * @param replicaLagMonitor the replica lag monitor
+     * @param replicaProperties the replica properties holding the read-your-writes window
+     * @param meterRegistry     the meter registry
+     * @return the data source bean
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, ReplicaProperties replicaProperties,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource,
+                replicaDataSource, replicaLagMonitor, replicaProperties.getReadYourWritesWindow(), meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,26 @@
+package by.razlivinsky.tasklist.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JacksonConfig class is responsible for configuring the application's Jackson object mapper.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+public class JacksonConfig {
+    /**
+     * Object mapper customizer registering a default filter provider, so that DTOs annotated with a property filter
+     * are serialized with all of their properties unless a request supplies a sparse fieldset.
+     *
+     * @return the object mapper builder customizer
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer propertyFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
@@ -0,0 +1,30 @@
+package by.razlivinsky.tasklist.config;
+
+import by.razlivinsky.tasklist.service.TaskEventSink;
+import by.razlivinsky.tasklist.service.impl.NdjsonFileTaskEventSink;
+import by.razlivinsky.tasklist.service.props.OutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OutboxConfig class is responsible for configuring the sink the task outbox is relayed to.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Configuration
+public class OutboxConfig {
+    /**
+     * Task event sink bean appending the task changes to a local NDJSON file. It is replaced by any other
+     * TaskEventSink bean defined in the application.
+     *
+     * @param outboxProperties the outbox properties holding the file settings
+     * @return the task event sink bean
+     */
+    @Bean
+    @ConditionalOnMissingBean(TaskEventSink.class)
+    public NdjsonFileTaskEventSink taskEventSink(OutboxProperties outboxProperties) {
+        return new NdjsonFileTaskEventSink(outboxProperties.getFile());
+    }
+}
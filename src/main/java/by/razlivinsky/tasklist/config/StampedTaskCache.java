@@ -0,0 +1,241 @@
+package by.razlivinsky.tasklist.config;
+
+import by.razlivinsky.tasklist.domain.task.Task;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * StampedTaskCache class is the cache of tasks read by ID. Every entry is stamped with the time its load started,
+ * and every eviction records the time from which loads see the change: the eviction itself, or, with a read replica,
+ * the eviction plus the replica's maximum lag. An entry loaded before that time is treated as missing, so a read
+ * that loaded the row before an update committed, or from a replica that had not applied it yet, cannot put the old
+ * task back after the eviction. Tasks are copied into and out of the cache, so callers never share an instance
+ * with it or with each other. Loads go through Caffeine as pending futures, so their count and duration are recorded
+ * in the cache statistics, while the database read itself runs on the calling thread outside of any map lock.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class StampedTaskCache implements org.springframework.cache.Cache {
+    private final String name;
+    private final AsyncCache<Object, Entry> entries;
+    private final Cache<Object, Long> invalidations;
+    private final long visibilityDelayNanos;
+
+    /**
+     * Entry record represents a cached task with the time its load started.
+     *
+     * @param stamp the System.nanoTime() at which the load started
+     * @param task  the task
+     */
+    private record Entry(long stamp, Task task) {
+    }
+
+    /**
+     * Constructs a new StampedTaskCache.
+     *
+     * @param name             the name of the cache
+     * @param maximumSize      the maximum number of cached tasks
+     * @param expireAfterWrite the time after which a cached task is dropped
+     * @param visibilityDelay  the time after an eviction during which reads may still see the old task
+     */
+    public StampedTaskCache(String name, long maximumSize, Duration expireAfterWrite, Duration visibilityDelay) {
+        this.name = name;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite.plus(visibilityDelay))
+                .build();
+        this.visibilityDelayNanos = visibilityDelay.toNanos();
+    }
+
+    /**
+     * Returns the name of the cache.
+     *
+     * @return the name of the cache
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the underlying Caffeine cache of the entries, whose statistics are published as metrics.
+     *
+     * @return the Caffeine cache
+     */
+    @Override
+    public Cache<Object, ?> getNativeCache() {
+        return entries.synchronous();
+    }
+
+    /**
+     * Returns a copy of the cached task.
+     *
+     * @param key the ID of the task
+     * @return the wrapped copy, or null if the task is not cached or its entry is stale
+     */
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = loaded(entries.getIfPresent(key));
+        return isFresh(key, entry) ? new SimpleValueWrapper(copy(entry.task())) : null;
+    }
+
+    /**
+     * Returns a copy of the cached task.
+     *
+     * @param key  the ID of the task
+     * @param type the expected type of the value
+     * @param <T>  the expected type of the value
+     * @return the copy, or null if the task is not cached or its entry is stale
+     * @throws IllegalStateException if the type is not compatible with Task
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        if (type != null && !type.isAssignableFrom(Task.class)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "].");
+        }
+        ValueWrapper wrapper = get(key);
+        return wrapper == null ? null : type == null ? (T) wrapper.get() : type.cast(wrapper.get());
+    }
+
+    /**
+     * Returns a copy of the cached task, loading it if it is not cached or its entry is stale. Concurrent loads
+     * of the same ID are performed once: the first caller installs a pending entry and runs the loader, the others
+     * wait for it, and a caller whose shared load failed, returned null or turned out stale loads again.
+     *
+     * @param key         the ID of the task
+     * @param valueLoader the loader of the task
+     * @param <T>         the type of the value
+     * @return the copy of the task, or null if the loader returns null, which is not cached
+     * @throws ValueRetrievalException if the loader fails
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        while (true) {
+            CompletableFuture<Entry> load = new CompletableFuture<>();
+            CompletableFuture<Entry> future = entries.get(key, (id, executor) -> load);
+            if (future == load) {
+                return (T) load(key, valueLoader, load);
+            }
+            Entry entry = future.join();
+            if (isFresh(key, entry)) {
+                return (T) copy(entry.task());
+            }
+            entries.asMap().remove(key, future);
+        }
+    }
+
+    /**
+     * Runs the loader and completes the pending entry with its result, which Caffeine records as a load.
+     * A failed load completes the entry with null, which Caffeine records as a failed load and drops without
+     * logging it, so a missing task does not log a warning on every read.
+     *
+     * @param key         the ID of the task
+     * @param valueLoader the loader of the task
+     * @param load        the pending entry installed for the load
+     * @return the copy of the loaded task, or null if the loader returns null
+     * @throws ValueRetrievalException if the loader fails
+     */
+    private Task load(Object key, Callable<?> valueLoader, CompletableFuture<Entry> load) {
+        long stamp = System.nanoTime();
+        Task task;
+        try {
+            task = (Task) valueLoader.call();
+        } catch (Exception e) {
+            load.complete(null);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (Error e) {
+            load.complete(null);
+            throw e;
+        }
+        load.complete(task == null ? null : new Entry(stamp, copy(task)));
+        return task == null ? null : copy(task);
+    }
+
+    /**
+     * Caches a copy of the task.
+     *
+     * @param key   the ID of the task
+     * @param value the task
+     */
+    @Override
+    public void put(Object key, Object value) {
+        entries.put(key, CompletableFuture.completedFuture(new Entry(System.nanoTime(), copy((Task) value))));
+    }
+
+    /**
+     * Drops the cached task and makes every entry loaded before the change is visible to all reads stale.
+     *
+     * @param key the ID of the task
+     */
+    @Override
+    public void evict(Object key) {
+        invalidations.put(key, System.nanoTime() + visibilityDelayNanos);
+        entries.synchronous().invalidate(key);
+    }
+
+    /**
+     * Drops every cached task.
+     */
+    @Override
+    public void clear() {
+        entries.synchronous().invalidateAll();
+    }
+
+    /**
+     * Returns the entry of a finished load without waiting for a pending one.
+     *
+     * @param future the cached future, or null
+     * @return the entry, or null if there is none, its load is pending or it failed
+     */
+    private static Entry loaded(CompletableFuture<Entry> future) {
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    /**
+     * Checks that the entry was loaded after the last eviction of its task became visible to all reads.
+     *
+     * @param key   the ID of the task
+     * @param entry the entry, or null
+     * @return true if the entry exists and is not stale
+     */
+    private boolean isFresh(Object key, Entry entry) {
+        if (entry == null) {
+            return false;
+        }
+        Long invalidatedAt = invalidations.getIfPresent(key);
+        return invalidatedAt == null || entry.stamp() - invalidatedAt >= 0;
+    }
+
+    /**
+     * Copies the task.
+     *
+     * @param task the task
+     * @return the copy
+     */
+    private static Task copy(Task task) {
+        Task copy = new Task();
+        copy.setId(task.getId());
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setStatus(task.getStatus());
+        copy.setExpirationDate(task.getExpirationDate());
+        return copy;
+    }
+}
@@ -0,0 +1,19 @@
+package by.razlivinsky.tasklist.domain.exception;
+
+/**
+ * ServiceUnavailableException class represents an exception raised when a request cannot be served
+ * because the resources it needs are saturated.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    /**
+     * Constructs a new ServiceUnavailableException with a specified error message.
+     *
+     * @param message the message explaining why the service is unavailable
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
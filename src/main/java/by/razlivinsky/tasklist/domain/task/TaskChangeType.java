@@ -0,0 +1,12 @@
+package by.razlivinsky.tasklist.domain.task;
+
+/**
+ * TaskChangeType enum represents the task lifecycle changes recorded in the task outbox: a task was 'CREATED',
+ * 'ASSIGNED' to a user, 'UPDATED' or 'DELETED'.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public enum TaskChangeType {
+    CREATED, ASSIGNED, UPDATED, DELETED
+}
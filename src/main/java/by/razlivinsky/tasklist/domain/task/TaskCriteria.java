@@ -0,0 +1,35 @@
+package by.razlivinsky.tasklist.domain.task;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * TaskCriteria class represents the filters, ordering, keyset position and sparse fieldset
+ * used when reading a page of a user's tasks.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+public class TaskCriteria {
+    private Status status;
+    private LocalDateTime expiresFrom;
+    private LocalDateTime expiresTo;
+    private TaskSort sort = TaskSort.ID;
+    private String cursor;
+    private Integer limit;
+    private Set<TaskField> fields;
+
+    /**
+     * Checks whether the field must be read, which is the case when no sparse fieldset is set
+     * or when the fieldset contains it.
+     *
+     * @param field the name of the TaskField constant
+     * @return true if the field must be read, otherwise false
+     */
+    public boolean includes(String field) {
+        return fields == null || fields.contains(TaskField.valueOf(field));
+    }
+}
@@ -0,0 +1,68 @@
+package by.razlivinsky.tasklist.domain.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * TaskCursor class represents the opaque keyset position of the last task returned in a page.
+ * It holds the sort order and the (expiration date, id) key of that task.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+public class TaskCursor {
+    private static final String SEPARATOR = "|";
+
+    private TaskSort sort;
+    private Long id;
+    private LocalDateTime expirationDate;
+
+    /**
+     * Creates a cursor positioned at the given task for the given sort order.
+     *
+     * @param sort the sort order of the page
+     * @param task the last task of the page
+     * @return the cursor positioned at the task
+     */
+    public static TaskCursor of(TaskSort sort, Task task) {
+        return new TaskCursor(sort, task.getId(), task.getExpirationDate());
+    }
+
+    /**
+     * Encodes the cursor into an opaque URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + id + SEPARATOR + (expirationDate == null ? "" : expirationDate);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param value the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalStateException if the value is not a valid cursor
+     */
+    public static TaskCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalStateException("Invalid cursor.");
+            }
+            LocalDateTime expirationDate = parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]);
+            return new TaskCursor(TaskSort.valueOf(parts[0]), Long.valueOf(parts[1]), expirationDate);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalStateException("Invalid cursor.");
+        }
+    }
+}
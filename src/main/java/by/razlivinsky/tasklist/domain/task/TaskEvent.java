@@ -0,0 +1,17 @@
+package by.razlivinsky.tasklist.domain.task;
+
+import lombok.Data;
+
+/**
+ * TaskEvent class represents a committed change of a user's tasks, as notified by the database.
+ * A 'RELOAD' event carries no task, and one without a user concerns every user.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+public class TaskEvent {
+    private TaskEventType type;
+    private Long userId;
+    private Task task;
+}
@@ -0,0 +1,12 @@
+package by.razlivinsky.tasklist.domain.task;
+
+/**
+ * TaskEventType enum represents the kinds of changes of a user's tasks: a task was 'CREATED', 'UPDATED' or
+ * 'DELETED', or the tasks changed in bulk or may have changed unnoticed and should be read again, 'RELOAD'.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public enum TaskEventType {
+    CREATED, UPDATED, DELETED, RELOAD
+}
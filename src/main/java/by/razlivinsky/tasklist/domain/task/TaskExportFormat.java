@@ -0,0 +1,11 @@
+package by.razlivinsky.tasklist.domain.task;
+
+/**
+ * TaskExportFormat enum represents the formats tasks can be exported in, either 'CSV' with a header or 'NDJSON'.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public enum TaskExportFormat {
+    CSV, NDJSON
+}
@@ -0,0 +1,70 @@
+package by.razlivinsky.tasklist.domain.task;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * TaskField enum represents the fields of a task that a client can select with a sparse fieldset,
+ * such as 'ID', 'TITLE', 'DESCRIPTION', 'STATUS' or 'EXPIRATION_DATE'.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public enum TaskField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    EXPIRATION_DATE("expirationDate");
+
+    private final String propertyName;
+
+    TaskField(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Returns the name of the field as it appears in the JSON representation of a task.
+     *
+     * @return the property name of the field
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * Resolves a sparse fieldset from the property names requested by a client.
+     * The ID is always part of the fieldset.
+     *
+     * @param names the requested property names, or null for all fields
+     * @return the resolved fields, or null if all fields are requested
+     * @throws IllegalStateException if a name does not denote a task field
+     */
+    public static Set<TaskField> fromPropertyNames(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return null;
+        }
+        Set<TaskField> fields = EnumSet.of(ID);
+        for (String name : names) {
+            fields.add(fromPropertyName(name.trim()));
+        }
+        return fields;
+    }
+
+    /**
+     * Resolves a single field from its property name.
+     *
+     * @param name the property name
+     * @return the field with that property name
+     * @throws IllegalStateException if the name does not denote a task field
+     */
+    private static TaskField fromPropertyName(String name) {
+        for (TaskField field : values()) {
+            if (field.propertyName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalStateException("Unknown task field: " + name + ".");
+    }
+}
@@ -0,0 +1,20 @@
+package by.razlivinsky.tasklist.domain.task;
+
+import lombok.Data;
+
+/**
+ * TaskOutboxEvent class represents a task change read from the task outbox for delivery. The JSON document
+ * is built by the database and holds the event ID, the type, the task and user IDs, the time of the change and
+ * the task as it was after the change, or before it for a deletion.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+public class TaskOutboxEvent {
+    private Long id;
+    private TaskChangeType type;
+    private Long taskId;
+    private Long userId;
+    private String json;
+}
@@ -0,0 +1,19 @@
+package by.razlivinsky.tasklist.domain.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * TaskPage class represents one page of tasks together with the cursor pointing at the next page.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+@AllArgsConstructor
+public class TaskPage {
+    private List<Task> tasks;
+    private String nextCursor;
+}
@@ -0,0 +1,11 @@
+package by.razlivinsky.tasklist.domain.task;
+
+/**
+ * TaskSort enum represents the supported orderings of a user's task list, either by 'ID' or by 'EXPIRATION_DATE'.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public enum TaskSort {
+    ID, EXPIRATION_DATE
+}
@@ -0,0 +1,21 @@
+package by.razlivinsky.tasklist.domain.user;
+
+import lombok.Data;
+
+/**
+ * UserPurgeProgress class represents the state of the purge of deleted users: how many users await it,
+ * the user being purged and the rows removed so far by this node.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+public class UserPurgeProgress {
+    private boolean enabled;
+    private long pendingUsers;
+    private Long currentUserId;
+    private long currentUserDeletedTasks;
+    private long purgedUsers;
+    private long deletedTasks;
+    private long deletedAssignments;
+}
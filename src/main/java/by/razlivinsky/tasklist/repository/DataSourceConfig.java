@@ -19,11 +19,22 @@ public class DataSourceConfig {
     private final DataSource dataSource;
 
     /**
-     * Retrieves a connection from the configured DataSource.
+     * Retrieves a connection from the configured DataSource, or the connection bound to the current transaction.
+     * Every connection retrieved must be given back with {@link #releaseConnection(Connection)}.
      *
      * @return the database connection
      */
     public Connection getConnection() {
         return DataSourceUtils.getConnection(dataSource);
     }
+
+    /**
+     * Gives back a connection retrieved with {@link #getConnection()}. The connection is closed, returning it
+     * to the pool, unless it is bound to the current transaction, which closes it when it completes.
+     *
+     * @param connection the connection to release
+     */
+    public void releaseConnection(Connection connection) {
+        DataSourceUtils.releaseConnection(connection, dataSource);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package by.razlivinsky.tasklist.repository;
+
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskExportFormat;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * TaskCopyRepository interface provides methods for loading and exporting tasks in bulk with the PostgreSQL COPY protocol.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface TaskCopyRepository {
+    /**
+     * Copies the tasks into a staging table as they are read from the iterator, then creates them and associates
+     * all of them with the specified user with set-based statements, which also record them in the task outbox.
+     * Must be called inside a transaction, which the staging table lives for.
+     *
+     * @param tasks  the tasks to be created, in the order their IDs are to be assigned
+     * @param userId the ID of the user to whom the tasks are to be associated
+     * @return the number of created tasks
+     */
+    long copyAll(Iterator<Task> tasks, Long userId);
+
+    /**
+     * Writes all tasks that match the criteria to the output stream as the database produces them,
+     * optionally with the ID of the user each task is associated with.
+     *
+     * @param criteria   the filters of the tasks
+     * @param withOwners whether to include the owner of each task
+     * @param format     the format of the output
+     * @param out        the output stream to write to
+     * @return the number of exported tasks
+     */
+    long copyOut(TaskCriteria criteria, boolean withOwners, TaskExportFormat format, OutputStream out);
+}
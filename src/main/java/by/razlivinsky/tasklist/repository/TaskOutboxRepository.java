@@ -0,0 +1,48 @@
+package by.razlivinsky.tasklist.repository;
+
+import by.razlivinsky.tasklist.domain.task.TaskChangeType;
+import by.razlivinsky.tasklist.domain.task.TaskOutboxEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * TaskOutboxRepository interface provides methods for writing task changes to the task outbox and reading them
+ * back for delivery.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Mapper
+public interface TaskOutboxRepository {
+    /**
+     * Records a change of the task in the outbox, with the task as it is seen by the current transaction.
+     * The change becomes visible to the relay only if the transaction commits.
+     *
+     * @param taskId  the ID of the changed task
+     * @param ownerId the ID of the owner of the task, which the change concerns
+     * @param type    the kind of the change
+     */
+    void append(@Param("taskId") Long taskId, @Param("ownerId") Long ownerId, @Param("type") TaskChangeType type);
+
+    /**
+     * Removes at most the given number of the oldest changes from the outbox and returns them, skipping changes
+     * locked by another transaction. The changes are gone for good only if the current transaction commits.
+     *
+     * @param limit the maximum number of changes to claim
+     * @return the claimed changes, ordered by ID
+     */
+    List<TaskOutboxEvent> claimBatch(int limit);
+
+    /**
+     * Records that the sink has received the changes up to the given ID.
+     *
+     * @param sink        the name of the sink
+     * @param lastEventId the ID of the last change delivered
+     * @param delivered   the number of changes delivered
+     */
+    void advanceOffset(@Param("sink") String sink,
+                       @Param("lastEventId") long lastEventId,
+                       @Param("delivered") int delivered);
+}
@@ -1,7 +1,11 @@
 package by.razlivinsky.tasklist.repository;
 
 import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskCursor;
+import by.razlivinsky.tasklist.domain.task.TaskEventType;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
@@ -16,15 +20,26 @@ import java.util.Optional;
 @Mapper
 public interface TaskRepository {
     /**
-     * Retrieves the task with the specified ID.
+     * Retrieves the task with the specified ID. The owner ID locates the partition of the task.
      *
-     * @param id the ID of the task
+     * @param id      the ID of the task
+     * @param ownerId the ID of the owner of the task
      * @return an Optional containing the task if found, otherwise an empty Optional
      */
-    Optional<Task> findById(Long id);
+    Optional<Task> findById(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    /**
+     * Retrieves the ID of the owner of the task with the specified ID. Without the owner, the lookup probes
+     * every partition, so it is only used when the owner is not known otherwise.
+     *
+     * @param id the ID of the task
+     * @return an Optional containing the ID of the owner if the task is found, otherwise an empty Optional
+     */
+    Optional<Long> findOwnerIdById(Long id);
 
     /**
      * Retrieves all tasks associated with the specified user ID.
+     * The tasks of a user marked deleted are not returned.
      *
      * @param userId the ID of the user
      * @return a list of tasks associated with the user
@@ -32,7 +47,44 @@ public interface TaskRepository {
     List<Task> findAllByUserId(Long userId);
 
     /**
-     * Assigns a task to the specified user by their ID.
+     * Retrieves the IDs of all tasks associated with the specified user ID.
+     *
+     * @param userId the ID of the user
+     * @return a list of IDs of the tasks associated with the user
+     */
+    List<Long> findIdsByUserId(Long userId);
+
+    /**
+     * Retrieves one keyset page of tasks associated with the specified user ID.
+     * The tasks of a user marked deleted are not returned.
+     *
+     * @param userId   the ID of the user
+     * @param criteria the filters and sort order of the page
+     * @param cursor   the position after which the page starts, or null for the first page
+     * @param limit    the maximum number of tasks to return
+     * @return a list of tasks ordered according to the criteria
+     */
+    List<Task> findPageByUserId(@Param("userId") Long userId,
+                                @Param("criteria") TaskCriteria criteria,
+                                @Param("cursor") TaskCursor cursor,
+                                @Param("limit") int limit);
+
+    /**
+     * Opens a cursor over all tasks associated with the specified user ID matching the criteria.
+     * The tasks of a user marked deleted are not returned.
+     * Rows are fetched from the database in batches while the cursor is iterated,
+     * so the caller must consume and close it inside a transaction.
+     *
+     * @param userId   the ID of the user
+     * @param criteria the filters of the tasks; sort order and cursor are ignored
+     * @return a cursor over the tasks ordered by ID
+     */
+    Cursor<Task> streamAllByUserId(@Param("userId") Long userId, @Param("criteria") TaskCriteria criteria);
+
+    /**
+     * Records the assignment of a task to the user it is created for. Assignment means ownership: a task is
+     * visible only to its owner, the user it was created for, and this row is kept only so that the owner's
+     * assignments can be purged with the owner.
      *
      * @param taskId the ID of the task
      * @param userId the ID of the user to whom the task is to be assigned
@@ -40,23 +92,77 @@ public interface TaskRepository {
     void assignToUserById(@Param("taskId") Long taskId, @Param("userId") Long userId);
 
     /**
-     * Updates the task information.
+     * Updates the task information. The owner ID locates the partition of the task.
      *
-     * @param task the task to be updated
+     * @param task    the task to be updated
+     * @param ownerId the ID of the owner of the task
      */
-    void update(Task task);
+    void update(@Param("task") Task task, @Param("ownerId") Long ownerId);
 
     /**
-     * Creates a new task.
+     * Creates a new task owned by the specified user. The owner is the partition key of the task and
+     * cannot be changed afterwards.
      *
-     * @param task the task to be created
+     * @param task   the task to be created
+     * @param userId the ID of the user who owns the task
      */
-    void create(Task task);
+    void create(@Param("task") Task task, @Param("userId") Long userId);
 
     /**
-     * Deletes the task with the specified ID.
+     * Creates the tasks, assigns them to the specified user and records both changes of every task
+     * in the task outbox in a single statement.
      *
-     * @param id the ID of the task to be deleted
+     * @param tasks  the tasks to be created
+     * @param userId the ID of the user to whom the tasks are to be assigned
+     * @return the generated IDs of the tasks, in the order of the given list
+     */
+    List<Long> createAll(@Param("tasks") List<Task> tasks, @Param("userId") Long userId);
+
+    /**
+     * Deletes the task with the specified ID together with its assignments. The owner ID locates the partition
+     * of the task.
+     *
+     * @param id      the ID of the task to be deleted
+     * @param ownerId the ID of the owner of the task
+     */
+    void delete(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    /**
+     * Deletes at most the given number of the user's tasks together with their assignments, skipping tasks
+     * locked by another transaction, and records the deletions in the task outbox.
+     *
+     * @param userId the ID of the owner of the tasks
+     * @param limit  the maximum number of tasks to delete
+     * @return the IDs of the deleted tasks
+     */
+    List<Long> deleteChunkByOwnerId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * Deletes at most the given number of assignments of tasks to the user, skipping assignments locked
+     * by another transaction.
+     *
+     * @param userId the ID of the user
+     * @param limit  the maximum number of assignments to delete
+     * @return the number of deleted assignments
+     */
+    int deleteAssignmentChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * Notifies the listeners of the task events channel of a change of the task, with the task as it is seen
+     * by the current transaction. The notification is delivered only if the transaction commits.
+     *
+     * @param taskId  the ID of the changed task
+     * @param ownerId the ID of the owner of the task
+     * @param type    the kind of the change
+     */
+    void notifyChange(@Param("taskId") Long taskId, @Param("ownerId") Long ownerId,
+                      @Param("type") TaskEventType type);
+
+    /**
+     * Notifies the listeners of the task events channel that the user's tasks should be read again.
+     * The notification is delivered only if the transaction commits.
+     *
+     * @param userId the ID of the user
      */
-    void delete(Long id);
+    void notifyReload(Long userId);
 }
\ No newline at end of file
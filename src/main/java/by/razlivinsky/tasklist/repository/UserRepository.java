@@ -5,6 +5,7 @@ import by.razlivinsky.tasklist.domain.user.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,7 +17,7 @@ import java.util.Optional;
 @Mapper
 public interface UserRepository {
     /**
-     * Retrieves the user with the specified ID.
+     * Retrieves the user with the specified ID, unless the user is marked deleted.
      *
      * @param id the ID of the user
      * @return an Optional containing the user if found, otherwise an empty Optional
@@ -24,7 +25,7 @@ public interface UserRepository {
     Optional<User> findById(Long id);
 
     /**
-     * Retrieves the user with the specified username.
+     * Retrieves the user with the specified username, unless the user is marked deleted.
      *
      * @param username the username of the user
      * @return an Optional containing the user if found, otherwise an empty Optional
@@ -32,12 +33,38 @@ public interface UserRepository {
     Optional<User> findByUsername(String username);
 
     /**
-     * Updates the user information.
+     * Retrieves the principal of the user with the specified ID: id, name, username, password hash and roles,
+     * without the user's tasks, unless the user is marked deleted.
+     *
+     * @param id the ID of the user
+     * @return an Optional containing the user principal if found, otherwise an empty Optional
+     */
+    Optional<User> findPrincipalById(Long id);
+
+    /**
+     * Retrieves the principal of the user with the specified username: id, name, username, password hash and roles,
+     * without the user's tasks, unless the user is marked deleted.
+     *
+     * @param username the username of the user
+     * @return an Optional containing the user principal if found, otherwise an empty Optional
+     */
+    Optional<User> findPrincipalByUsername(String username);
+
+    /**
+     * Updates the user information, unless the user is marked deleted.
      *
      * @param user the user to be updated
      */
     void update(User user);
 
+    /**
+     * Replaces the password hash of the user, unless the user is marked deleted.
+     *
+     * @param id       the ID of the user
+     * @param password the new password hash
+     */
+    void updatePassword(@Param("id") Long id, @Param("password") String password);
+
     /**
      * Creates a new user.
      *
@@ -45,6 +72,14 @@ public interface UserRepository {
      */
     void create(User user);
 
+    /**
+     * Checks if a user with the specified username exists, including a user marked deleted and not yet purged.
+     *
+     * @param username the username
+     * @return true if the username is taken, false otherwise
+     */
+    boolean existsByUsername(String username);
+
     /**
      * Inserts a role for the specified user.
      *
@@ -63,9 +98,42 @@ public interface UserRepository {
     boolean isTaskOwner(@Param("userId") Long userId, @Param("taskId") Long taskId);
 
     /**
-     * Deletes the user with the specified ID.
+     * Checks if the user with the specified ID exists and is not marked deleted.
+     *
+     * @param id the ID of the user
+     * @return true if the user exists and is not marked deleted, false otherwise
+     */
+    boolean isActive(Long id);
+
+    /**
+     * Marks the user with the specified ID deleted, leaving the removal of the user's data to the purge.
+     *
+     * @param id the ID of the user
+     * @return true if the user was marked, false if the user does not exist or is already marked
+     */
+    boolean markDeleted(Long id);
+
+    /**
+     * Retrieves the IDs of users marked deleted, the earliest marked first.
+     *
+     * @param limit the maximum number of IDs
+     * @return the IDs of users awaiting the purge
+     */
+    List<Long> findDeletedIds(int limit);
+
+    /**
+     * Counts the users marked deleted.
+     *
+     * @return the number of users awaiting the purge
+     */
+    long countDeleted();
+
+    /**
+     * Deletes the user with the specified ID, together with the user's roles, if the user is marked deleted
+     * and neither owns tasks nor has assignments any more.
      *
      * @param id the ID of the user to be deleted
+     * @return true if the user was deleted, false otherwise
      */
-    void delete(Long id);
+    boolean delete(Long id);
 }
\ No newline at end of file
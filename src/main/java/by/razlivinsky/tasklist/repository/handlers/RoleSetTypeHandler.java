@@ -0,0 +1,62 @@
+package by.razlivinsky.tasklist.repository.handlers;
+
+import by.razlivinsky.tasklist.domain.user.Role;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * RoleSetTypeHandler class maps a Postgres text array of role names, such as one built with ARRAY(...),
+ * to a set of Role values.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class RoleSetTypeHandler extends BaseTypeHandler<Set<Role>> {
+    /**
+     * Converts a SQL array of role names to a set of roles.
+     *
+     * @param array the SQL array, may be null
+     * @return the set of roles, empty if the array is null
+     * @throws SQLException if the array cannot be read
+     */
+    public static Set<Role> toRoles(Array array) throws SQLException {
+        Set<Role> roles = new HashSet<>();
+        if (array == null) {
+            return roles;
+        }
+        for (Object name : (Object[]) array.getArray()) {
+            roles.add(Role.valueOf(name.toString()));
+        }
+        return roles;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Set<Role> parameter, JdbcType jdbcType)
+            throws SQLException {
+        Object[] names = parameter.stream().map(Enum::name).toArray();
+        ps.setArray(i, ps.getConnection().createArrayOf("varchar", names));
+    }
+
+    @Override
+    public Set<Role> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toRoles(rs.getArray(columnName));
+    }
+
+    @Override
+    public Set<Role> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toRoles(rs.getArray(columnIndex));
+    }
+
+    @Override
+    public Set<Role> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toRoles(cs.getArray(columnIndex));
+    }
+}
@@ -0,0 +1,77 @@
+package by.razlivinsky.tasklist.repository.handlers;
+
+import by.razlivinsky.tasklist.domain.exception.ResourceMappingException;
+import by.razlivinsky.tasklist.domain.task.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TaskListTypeHandler class maps a Postgres JSON array of task objects, such as one built with json_agg,
+ * to a list of Task objects.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class TaskListTypeHandler extends BaseTypeHandler<List<Task>> {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final ObjectReader READER = MAPPER.readerFor(new TypeReference<List<Task>>() {});
+
+    /**
+     * Converts a JSON array of task objects to a list of tasks.
+     *
+     * @param json the JSON array, may be null
+     * @return the list of tasks, empty if the JSON is null
+     * @throws ResourceMappingException if the JSON cannot be parsed
+     */
+    public static List<Task> toTasks(String json) {
+        if (json == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return READER.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new ResourceMappingException("Error while mapping user tasks.");
+        }
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, List<Task> parameter, JdbcType jdbcType)
+            throws SQLException {
+        try {
+            ps.setObject(i, MAPPER.writeValueAsString(parameter), Types.OTHER);
+        } catch (JsonProcessingException e) {
+            throw new ResourceMappingException("Error while mapping user tasks.");
+        }
+    }
+
+    @Override
+    public List<Task> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toTasks(rs.getString(columnName));
+    }
+
+    @Override
+    public List<Task> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toTasks(rs.getString(columnIndex));
+    }
+
+    @Override
+    public List<Task> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toTasks(cs.getString(columnIndex));
+    }
+}
@@ -0,0 +1,137 @@
+package by.razlivinsky.tasklist.repository.impl;
+
+import by.razlivinsky.tasklist.domain.exception.ResourceMappingException;
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.repository.mappers.TaskRowMapper;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * JdbcTaskCursor class adapts an open JDBC result set of tasks to the MyBatis Cursor contract,
+ * mapping one row at a time while it is iterated. Closing the cursor closes the result set and the statement
+ * and then releases the connection they were read from.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class JdbcTaskCursor implements Cursor<Task> {
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final Runnable releaseConnection;
+    private boolean iteratorRetrieved;
+    private boolean consumed;
+    private boolean closed;
+    private int currentIndex = -1;
+
+    /**
+     * Constructs a new JdbcTaskCursor over the given statement and its result set.
+     *
+     * @param statement         the statement that produced the result set
+     * @param resultSet         the result set of tasks
+     * @param releaseConnection the action releasing the connection of the statement
+     */
+    public JdbcTaskCursor(PreparedStatement statement, ResultSet resultSet, Runnable releaseConnection) {
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.releaseConnection = releaseConnection;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return iteratorRetrieved && !closed;
+    }
+
+    @Override
+    public boolean isConsumed() {
+        return consumed;
+    }
+
+    @Override
+    public int getCurrentIndex() {
+        return currentIndex;
+    }
+
+    /**
+     * Returns the single iterator of the cursor.
+     *
+     * @return the iterator over the remaining tasks
+     * @throws IllegalStateException if the cursor is closed or the iterator was already retrieved
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        if (iteratorRetrieved) {
+            throw new IllegalStateException("Cannot open more than one iterator on a Cursor.");
+        }
+        if (closed) {
+            throw new IllegalStateException("A Cursor is already closed.");
+        }
+        iteratorRetrieved = true;
+        return new Iterator<>() {
+            private Task next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = fetchNext();
+                }
+                return next != null;
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Task task = next;
+                next = null;
+                currentIndex++;
+                return task;
+            }
+        };
+    }
+
+    /**
+     * Closes the result set and the statement of the cursor and releases their connection.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            resultSet.close();
+            statement.close();
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while closing tasks cursor.");
+        } finally {
+            releaseConnection.run();
+        }
+    }
+
+    /**
+     * Advances the result set and maps the next row.
+     *
+     * @return the next task, or null when the result set is exhausted
+     */
+    private Task fetchNext() {
+        if (closed || consumed) {
+            return null;
+        }
+        try {
+            if (resultSet.next()) {
+                return TaskRowMapper.mapCurrentRow(resultSet);
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while streaming tasks.");
+        }
+        consumed = true;
+        close();
+        return null;
+    }
+}
@@ -0,0 +1,269 @@
+package by.razlivinsky.tasklist.repository.impl;
+
+import by.razlivinsky.tasklist.domain.exception.ResourceMappingException;
+import by.razlivinsky.tasklist.domain.task.Status;
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskExportFormat;
+import by.razlivinsky.tasklist.repository.DataSourceConfig;
+import by.razlivinsky.tasklist.repository.TaskCopyRepository;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * TaskCopyRepositoryImpl class provides an implementation of TaskCopyRepository interface on top of the pgjdbc
+ * copy API. Imported tasks are encoded as CSV and written to the COPY stream through a fixed-size buffer, and
+ * exported tasks are passed on as the database sends them, so memory use does not depend on the number of tasks.
+ * The staging table of an import is temporary and dropped when the transaction ends.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskCopyRepositoryImpl implements TaskCopyRepository {
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final DataSourceConfig dataSourceConfig;
+
+    private final String CREATE_STAGING_TABLE = """
+            CREATE TEMPORARY TABLE task_import
+            (
+                ord             bigint GENERATED ALWAYS AS IDENTITY,
+                title           varchar(255),
+                description     varchar(255),
+                expiration_date timestamp
+            ) ON COMMIT DROP""";
+
+    private final String COPY_TO_STAGING_TABLE = """
+            COPY task_import (title, description, expiration_date)
+            FROM STDIN WITH (FORMAT csv)""";
+
+    private final String CREATE_FROM_STAGING_TABLE = """
+            WITH created AS (
+                INSERT INTO tasks (owner_id, title, description, expiration_date, status)
+                SELECT ?, title, description, expiration_date, ?
+                FROM task_import
+                ORDER BY ord
+                RETURNING id, owner_id, title, description, status, expiration_date
+            ),
+            outboxed AS (
+                INSERT INTO task_outbox (type, task_id, user_id, payload)
+                SELECT c.type, t.id, t.owner_id,
+                       json_build_object('id', t.id,
+                                         'ownerId', t.owner_id,
+                                         'title', t.title,
+                                         'description', t.description,
+                                         'status', t.status,
+                                         'expirationDate', t.expiration_date)
+                FROM created t
+                         CROSS JOIN (VALUES (1, 'CREATED'), (2, 'ASSIGNED')) AS c (seq, type)
+                ORDER BY t.id, c.seq
+            )
+            INSERT INTO users_tasks (user_id, task_id)
+            SELECT owner_id, id
+            FROM created""";
+
+    private final String EXPORT_CSV = """
+            SELECT t.id,
+                   t.title,
+                   t.description,
+                   t.status,
+                   to_char(t.expiration_date, 'YYYY-MM-DD HH24:MI') AS expiration_date%s
+            FROM tasks t""";
+
+    private final String EXPORT_NDJSON = """
+            SELECT json_build_object('id', t.id,
+                                     'title', t.title,
+                                     'description', t.description,
+                                     'status', t.status,
+                                     'expirationDate', to_char(t.expiration_date, 'YYYY-MM-DD HH24:MI')%s)::text
+            FROM tasks t""";
+
+    private final String EXPORT_ACTIVE_OWNER = """
+            EXISTS (SELECT 1
+                    FROM users u
+                    WHERE u.id = t.owner_id
+                      AND u.deleted_at IS NULL)""";
+
+    private final String EXPORT_CSV_OWNER = ", t.owner_id";
+
+    private final String EXPORT_NDJSON_OWNER = ", 'ownerId', t.owner_id";
+
+    private final String EXPORT_CSV_OPTIONS = " TO STDOUT WITH (FORMAT csv, HEADER)";
+
+    private final String EXPORT_NDJSON_OPTIONS = " TO STDOUT WITH (FORMAT csv, DELIMITER E'\\x02', QUOTE E'\\x01')";
+
+    /**
+     * Copies the tasks into a staging table as they are read from the iterator, then creates them with the 'TODO'
+     * status and associates all of them with the specified user. A copy interrupted by the iterator is cancelled
+     * and the exception of the iterator is rethrown.
+     *
+     * @param tasks  the tasks to be created, in the order their IDs are to be assigned
+     * @param userId the ID of the user to whom the tasks are to be associated
+     * @return the number of created tasks
+     * @throws ResourceMappingException if an error occurs while copying or creating the tasks
+     */
+    @Override
+    public long copyAll(Iterator<Task> tasks, Long userId) {
+        Connection connection = dataSourceConfig.getConnection();
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_TABLE);
+            }
+            copy(connection.unwrap(PGConnection.class), tasks);
+            try (PreparedStatement statement = connection.prepareStatement(CREATE_FROM_STAGING_TABLE)) {
+                statement.setLong(1, userId);
+                statement.setString(2, Status.TODO.name());
+                return statement.executeLargeUpdate();
+            }
+        } catch (SQLException | IOException throwables) {
+            throw new ResourceMappingException("Error while importing tasks.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Writes all tasks that match the criteria to the output stream with COPY TO STDOUT, chunk by chunk as the
+     * database sends them, without sorting them. NDJSON lines are built by the database and copied as CSV
+     * with control characters as the delimiter and quote, which JSON text never contains unescaped,
+     * so that the lines come out unchanged. The filters are inlined into the statement, as COPY takes no
+     * parameters; they are an enum constant and timestamps, so no user text reaches the SQL. Tasks of users
+     * marked deleted are left out, like in the other reads of tasks.
+     *
+     * @param criteria   the filters of the tasks
+     * @param withOwners whether to include the owner of each task
+     * @param format     the format of the output
+     * @param out        the output stream to write to
+     * @return the number of exported tasks
+     * @throws ResourceMappingException if an error occurs while exporting the tasks or writing them
+     */
+    @Override
+    public long copyOut(TaskCriteria criteria, boolean withOwners, TaskExportFormat format, OutputStream out) {
+        Connection connection = dataSourceConfig.getConnection();
+        try {
+            return connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyOut(exportStatement(criteria, withOwners, format), out);
+        } catch (SQLException | IOException throwables) {
+            throw new ResourceMappingException("Error while exporting tasks.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Builds the COPY TO STDOUT statement exporting the tasks that match the criteria in the format.
+     *
+     * @param criteria   the filters of the tasks
+     * @param withOwners whether to include the owner of each task
+     * @param format     the format of the output
+     * @return the COPY statement
+     */
+    private String exportStatement(TaskCriteria criteria, boolean withOwners, TaskExportFormat format) {
+        StringBuilder query = new StringBuilder("COPY (").append(format == TaskExportFormat.NDJSON
+                ? EXPORT_NDJSON.formatted(withOwners ? EXPORT_NDJSON_OWNER : "")
+                : EXPORT_CSV.formatted(withOwners ? EXPORT_CSV_OWNER : ""));
+        List<String> conditions = new ArrayList<>();
+        conditions.add(EXPORT_ACTIVE_OWNER);
+        if (criteria.getStatus() != null) {
+            conditions.add("t.status = '" + criteria.getStatus().name() + "'");
+        }
+        if (criteria.getExpiresFrom() != null) {
+            conditions.add("t.expiration_date >= " + timestamp(criteria.getExpiresFrom()));
+        }
+        if (criteria.getExpiresTo() != null) {
+            conditions.add("t.expiration_date < " + timestamp(criteria.getExpiresTo()));
+        }
+        query.append("\nWHERE ").append(String.join("\n  AND ", conditions));
+        return query.append(')')
+                .append(format == TaskExportFormat.NDJSON ? EXPORT_NDJSON_OPTIONS : EXPORT_CSV_OPTIONS)
+                .toString();
+    }
+
+    /**
+     * Formats the date and time as a timestamp literal.
+     *
+     * @param dateTime the date and time
+     * @return the timestamp literal
+     */
+    private static String timestamp(LocalDateTime dateTime) {
+        return "TIMESTAMP '" + dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "'";
+    }
+
+    /**
+     * Writes the tasks to the staging table with COPY FROM STDIN.
+     *
+     * @param connection the connection to copy through
+     * @param tasks      the tasks to be copied
+     * @throws SQLException if the copy cannot be started, ended or cancelled
+     * @throws IOException  if writing to the copy stream fails
+     */
+    private void copy(PGConnection connection, Iterator<Task> tasks) throws SQLException, IOException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection, COPY_TO_STAGING_TABLE, COPY_BUFFER_SIZE);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+            while (tasks.hasNext()) {
+                writeRow(writer, tasks.next());
+            }
+            writer.close();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Writes the task as one CSV row of the staging table. Absent values are written unquoted and empty,
+     * which COPY reads as NULL; strings are always quoted, so an empty string stays empty.
+     *
+     * @param writer the writer of the copy stream
+     * @param task   the task to be written
+     * @throws IOException if writing fails
+     */
+    private static void writeRow(Writer writer, Task task) throws IOException {
+        writeString(writer, task.getTitle());
+        writer.write(',');
+        writeString(writer, task.getDescription());
+        writer.write(',');
+        if (task.getExpirationDate() != null) {
+            writer.write(task.getExpirationDate().toString());
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes the string as a quoted CSV field, doubling the quotes inside it.
+     *
+     * @param writer the writer of the copy stream
+     * @param value  the string, or null for an absent value
+     * @throws IOException if writing fails
+     */
+    private static void writeString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,157 @@
+package by.razlivinsky.tasklist.repository.impl;
+
+import by.razlivinsky.tasklist.domain.exception.ResourceMappingException;
+import by.razlivinsky.tasklist.domain.task.TaskChangeType;
+import by.razlivinsky.tasklist.domain.task.TaskOutboxEvent;
+import by.razlivinsky.tasklist.repository.DataSourceConfig;
+import by.razlivinsky.tasklist.repository.TaskOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TaskOutboxRepositoryImpl class provides an implementation of TaskOutboxRepository interface for interacting
+ * with the database. It replaces the MyBatis mapper when the repository engine is set to jdbc.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "tasklist.repository", name = "engine", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class TaskOutboxRepositoryImpl implements TaskOutboxRepository {
+    private final DataSourceConfig dataSourceConfig;
+
+    private final String APPEND = """
+            INSERT INTO task_outbox (type, task_id, user_id, payload)
+            SELECT ?,
+                   t.id,
+                   t.owner_id,
+                   json_build_object('id', t.id,
+                                     'ownerId', t.owner_id,
+                                     'title', t.title,
+                                     'description', t.description,
+                                     'status', t.status,
+                                     'expirationDate', t.expiration_date)
+            FROM tasks t
+            WHERE t.owner_id = ?
+              AND t.id = ?""";
+
+    private final String CLAIM_BATCH = """
+            WITH claimed AS (
+                DELETE FROM task_outbox
+                WHERE id IN (SELECT id
+                             FROM task_outbox
+                             ORDER BY id
+                             LIMIT ?
+                             FOR UPDATE SKIP LOCKED)
+                RETURNING id, type, task_id, user_id, payload, created_at
+            )
+            SELECT id      AS event_id,
+                   type    AS event_type,
+                   task_id AS event_task_id,
+                   user_id AS event_user_id,
+                   json_build_object('id', id,
+                                     'type', type,
+                                     'taskId', task_id,
+                                     'userId', user_id,
+                                     'occurredAt', created_at,
+                                     'task', payload)::text AS event_json
+            FROM claimed
+            ORDER BY id""";
+
+    private final String ADVANCE_OFFSET = """
+            INSERT INTO task_outbox_offsets (sink, last_event_id, delivered)
+            VALUES (?, ?, ?)
+            ON CONFLICT (sink) DO UPDATE
+            SET last_event_id = GREATEST(task_outbox_offsets.last_event_id, EXCLUDED.last_event_id),
+                delivered = task_outbox_offsets.delivered + EXCLUDED.delivered,
+                updated_at = now()""";
+
+    /**
+     * Records a change of the task in the outbox.
+     *
+     * @param taskId  the ID of the changed task
+     * @param ownerId the ID of the owner of the task, which the change concerns
+     * @param type    the kind of the change
+     * @throws ResourceMappingException if an error occurs while recording the change
+     */
+    @Override
+    public void append(Long taskId, Long ownerId, TaskChangeType type) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(APPEND)) {
+            statement.setString(1, type.name());
+            statement.setLong(2, ownerId);
+            statement.setLong(3, taskId);
+            statement.executeUpdate();
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while recording task change.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Removes a batch of the oldest changes from the outbox, skipping locked changes, and returns them.
+     *
+     * @param limit the maximum number of changes to claim
+     * @return the claimed changes, ordered by ID
+     * @throws ResourceMappingException if an error occurs while claiming the changes
+     */
+    @Override
+    public List<TaskOutboxEvent> claimBatch(int limit) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(CLAIM_BATCH)) {
+            statement.setInt(1, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<TaskOutboxEvent> events = new ArrayList<>();
+                while (rs.next()) {
+                    TaskOutboxEvent event = new TaskOutboxEvent();
+                    event.setId(rs.getLong("event_id"));
+                    event.setType(TaskChangeType.valueOf(rs.getString("event_type")));
+                    event.setTaskId(rs.getLong("event_task_id"));
+                    event.setUserId(rs.getLong("event_user_id"));
+                    event.setJson(rs.getString("event_json"));
+                    events.add(event);
+                }
+                return events;
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while claiming task changes.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Records the delivery of the changes up to the given ID to the sink.
+     *
+     * @param sink        the name of the sink
+     * @param lastEventId the ID of the last change delivered
+     * @param delivered   the number of changes delivered
+     * @throws ResourceMappingException if an error occurs while recording the delivery
+     */
+    @Override
+    public void advanceOffset(String sink, long lastEventId, int delivered) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(ADVANCE_OFFSET)) {
+            statement.setString(1, sink);
+            statement.setLong(2, lastEventId);
+            statement.setInt(3, delivered);
+            statement.executeUpdate();
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while recording task change delivery.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+}
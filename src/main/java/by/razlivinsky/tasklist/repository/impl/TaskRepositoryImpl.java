@@ -2,23 +2,41 @@ package by.razlivinsky.tasklist.repository.impl;
 
 import by.razlivinsky.tasklist.domain.exception.ResourceMappingException;
 import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskCursor;
+import by.razlivinsky.tasklist.domain.task.TaskEventType;
+import by.razlivinsky.tasklist.domain.task.TaskField;
+import by.razlivinsky.tasklist.domain.task.TaskSort;
 import by.razlivinsky.tasklist.repository.DataSourceConfig;
 import by.razlivinsky.tasklist.repository.TaskRepository;
 import by.razlivinsky.tasklist.repository.mappers.TaskRowMapper;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
 
 import java.sql.*;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * TaskRepositoryImpl class provides an implementation of TaskRepository interface for interacting with the database.
+ * It replaces the MyBatis mapper when the repository engine is set to jdbc.
+ * Every statement is closed after use and keeps the same SQL text across calls, so the PostgreSQL driver reuses
+ * the statement it prepared on the server for that text on the same connection.
  *
  * @author razlivinsky
  * @since 09.03.2024
  */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "tasklist.repository", name = "engine", havingValue = "jdbc")
 @RequiredArgsConstructor
 public class TaskRepositoryImpl implements TaskRepository {
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     private final DataSourceConfig dataSourceConfig;
 
     private final String FIND_BY_ID = """
@@ -28,6 +46,16 @@ public class TaskRepositoryImpl implements TaskRepository {
             	   t.expiration_date   AS task_expiration_date,
             	   t.status            AS task_status
             FROM tasks t
+            WHERE t.owner_id = ?
+              AND t.id = ?
+              AND EXISTS (SELECT 1
+                          FROM users u
+                          WHERE u.id = t.owner_id
+                            AND u.deleted_at IS NULL)""";
+
+    private final String FIND_OWNER_ID_BY_ID = """
+            SELECT owner_id
+            FROM tasks
             WHERE id = ?""";
 
     private final String FIND_ALL_BY_USER_ID = """
@@ -37,8 +65,29 @@ public class TaskRepositoryImpl implements TaskRepository {
             	   t.expiration_date   AS task_expiration_date,
             	   t.status            AS task_status
             FROM tasks t
-                    JOIN users_tasks ut ON t.id = ut.task_id
-            WHERE ut.user_id = ?""";
+            WHERE t.owner_id = ?
+              AND EXISTS (SELECT 1
+                          FROM users u
+                          WHERE u.id = t.owner_id
+                            AND u.deleted_at IS NULL)""";
+
+    private final String FIND_IDS_BY_USER_ID = """
+            SELECT id
+            FROM tasks
+            WHERE owner_id = ?""";
+
+    private final String FIND_PAGE_BY_USER_ID = """
+            SELECT t.id AS task_id,
+                   %s AS task_title,
+            	   %s AS task_description,
+            	   %s AS task_expiration_date,
+            	   %s AS task_status
+            FROM tasks t
+            WHERE t.owner_id = ?
+              AND EXISTS (SELECT 1
+                          FROM users u
+                          WHERE u.id = t.owner_id
+                            AND u.deleted_at IS NULL)""";
 
     private final String ASSIGN = """
             INSERT INTO users_tasks (task_id, user_id)
@@ -50,34 +99,164 @@ public class TaskRepositoryImpl implements TaskRepository {
                 description = ?,
             	expiration_date = ?,
             	status = ?
-            WHERE id = ?""";
+            WHERE owner_id = ?
+              AND id = ?""";
 
     private final String CREATE = """
-            INSERT INTO tasks (title, description, expiration_date, status)
-            VALUES (?, ?, ?, ?)""";
+            INSERT INTO tasks (owner_id, title, description, expiration_date, status)
+            VALUES (?, ?, ?, ?, ?)""";
+
+    private final String CREATE_ALL = """
+            WITH input AS (
+                SELECT title, description, expiration_date, status, ord
+                FROM unnest(CAST(? AS varchar[]), CAST(? AS varchar[]), CAST(? AS timestamp[]), CAST(? AS varchar[]))
+                         WITH ORDINALITY AS i (title, description, expiration_date, status, ord)
+            ),
+            numbered AS (
+                SELECT nextval(pg_get_serial_sequence('tasks', 'id')) AS id,
+                       CAST(? AS bigint) AS owner_id,
+                       title, description, expiration_date, status, ord
+                FROM input
+            ),
+            inserted AS (
+                INSERT INTO tasks (id, owner_id, title, description, expiration_date, status)
+                SELECT id, owner_id, title, description, expiration_date, status
+                FROM numbered
+            ),
+            assigned AS (
+                INSERT INTO users_tasks (task_id, user_id)
+                SELECT id, owner_id
+                FROM numbered
+            ),
+            outboxed AS (
+                INSERT INTO task_outbox (type, task_id, user_id, payload)
+                SELECT c.type, n.id, n.owner_id,
+                       json_build_object('id', n.id,
+                                         'ownerId', n.owner_id,
+                                         'title', n.title,
+                                         'description', n.description,
+                                         'status', n.status,
+                                         'expirationDate', n.expiration_date)
+                FROM numbered n
+                         CROSS JOIN (VALUES (1, 'CREATED'), (2, 'ASSIGNED')) AS c (seq, type)
+                ORDER BY n.ord, c.seq
+            )
+            SELECT id
+            FROM numbered
+            ORDER BY ord""";
 
     private final String DELETE = """
+            WITH unassigned AS (
+                DELETE FROM users_tasks
+                WHERE task_id = ?
+            )
             DELETE FROM tasks
-            WHERE id = ?""";
+            WHERE owner_id = ?
+              AND id = ?""";
+
+    private final String DELETE_CHUNK_BY_OWNER_ID = """
+            WITH chunk AS (
+                SELECT id
+                FROM tasks
+                WHERE owner_id = ?
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ),
+            unassigned AS (
+                DELETE FROM users_tasks
+                WHERE task_id IN (SELECT id FROM chunk)
+            ),
+            deleted AS (
+                DELETE FROM tasks
+                WHERE owner_id = ?
+                  AND id IN (SELECT id FROM chunk)
+                RETURNING id, owner_id, title, description, status, expiration_date
+            ),
+            outboxed AS (
+                INSERT INTO task_outbox (type, task_id, user_id, payload)
+                SELECT 'DELETED', id, owner_id,
+                       json_build_object('id', id,
+                                         'ownerId', owner_id,
+                                         'title', title,
+                                         'description', description,
+                                         'status', status,
+                                         'expirationDate', expiration_date)
+                FROM deleted
+            )
+            SELECT id
+            FROM deleted""";
+
+    private final String DELETE_ASSIGNMENT_CHUNK_BY_USER_ID = """
+            DELETE FROM users_tasks
+            WHERE user_id = ?
+              AND task_id IN (SELECT task_id
+                              FROM users_tasks
+                              WHERE user_id = ?
+                              LIMIT ?
+                              FOR UPDATE SKIP LOCKED)""";
+
+    private final String NOTIFY_CHANGE = """
+            SELECT pg_notify('task_events', json_build_object(
+                    'type', ?,
+                    'userId', t.owner_id,
+                    'task', json_build_object(
+                            'id', t.id,
+                            'title', t.title,
+                            'description', t.description,
+                            'status', t.status,
+                            'expirationDate', t.expiration_date))::text)
+            FROM tasks t
+            WHERE t.owner_id = ?
+              AND t.id = ?""";
+
+    private final String NOTIFY_RELOAD = """
+            SELECT pg_notify('task_events', json_build_object(
+                    'type', 'RELOAD',
+                    'userId', CAST(? AS bigint))::text)""";
 
     /**
-     * Retrieves a task by its ID from the database.
+     * Retrieves a task by its ID and the ID of its owner from the database.
      *
-     * @param id the ID of the task to retrieve
+     * @param id      the ID of the task to retrieve
+     * @param ownerId the ID of the owner of the task
      * @return an Optional containing the retrieved task, or empty if no task is found with the given ID
      * @throws ResourceMappingException if an error occurs while retrieving the task
      */
     @Override
-    public Optional<Task> findById(Long id) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(FIND_BY_ID);
-            statement.setLong(1, id);
+    public Optional<Task> findById(Long id, Long ownerId) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_BY_ID)) {
+            statement.setLong(1, ownerId);
+            statement.setLong(2, id);
             try (ResultSet rs = statement.executeQuery()) {
                 return Optional.ofNullable(TaskRowMapper.mapRow(rs));
             }
-        } catch (SQLException throables) {
-            throw new ResourceMappingException("Error while finding user by id.");
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding task by id.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Retrieves the ID of the owner of a task from the database based on the task ID.
+     *
+     * @param id the ID of the task
+     * @return an Optional containing the ID of the owner, or empty if no task is found with the given ID
+     * @throws ResourceMappingException if an error occurs while retrieving the owner
+     */
+    @Override
+    public Optional<Long> findOwnerIdById(Long id) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_OWNER_ID_BY_ID)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(rs.getLong(1)) : Optional.empty();
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding task owner.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
@@ -90,15 +269,165 @@ public class TaskRepositoryImpl implements TaskRepository {
      */
     @Override
     public List<Task> findAllByUserId(Long userId) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(FIND_ALL_BY_USER_ID);
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_ALL_BY_USER_ID)) {
             statement.setLong(1, userId);
             try (ResultSet rs = statement.executeQuery()) {
                 return TaskRowMapper.mapRows(rs);
             }
-        } catch (SQLException throables) {
+        } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while finding all by user.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Retrieves the IDs of all tasks associated with a specific user from the database.
+     *
+     * @param userId the ID of the user whose task IDs are to be retrieved
+     * @return a list of IDs of the tasks associated with the given user
+     * @throws ResourceMappingException if an error occurs while retrieving the task IDs
+     */
+    @Override
+    public List<Long> findIdsByUserId(Long userId) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_IDS_BY_USER_ID)) {
+            statement.setLong(1, userId);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<Long> ids = new ArrayList<>();
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+                return ids;
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding task ids by user.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Retrieves one keyset page of tasks associated with a specific user from the database.
+     *
+     * @param userId   the ID of the user whose tasks are to be retrieved
+     * @param criteria the filters and sort order of the page
+     * @param cursor   the position after which the page starts, or null for the first page
+     * @param limit    the maximum number of tasks to return
+     * @return a list of tasks ordered according to the criteria
+     * @throws ResourceMappingException if an error occurs while retrieving the tasks
+     */
+    @Override
+    public List<Task> findPageByUserId(Long userId, TaskCriteria criteria, TaskCursor cursor, int limit) {
+        StringBuilder sql = new StringBuilder(selectPageByUserId(criteria));
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        appendFilters(sql, params, criteria);
+        if (criteria.getSort() == TaskSort.EXPIRATION_DATE) {
+            if (cursor != null && cursor.getExpirationDate() != null) {
+                Timestamp after = Timestamp.valueOf(cursor.getExpirationDate());
+                sql.append(" AND (t.expiration_date > ? OR (t.expiration_date = ? AND t.id > ?) OR t.expiration_date IS NULL)");
+                params.add(after);
+                params.add(after);
+                params.add(cursor.getId());
+            } else if (cursor != null) {
+                sql.append(" AND t.expiration_date IS NULL AND t.id > ?");
+                params.add(cursor.getId());
+            }
+            sql.append(" ORDER BY t.expiration_date NULLS LAST, t.id");
+        } else {
+            if (cursor != null) {
+                sql.append(" AND t.id > ?");
+                params.add(cursor.getId());
+            }
+            sql.append(" ORDER BY t.id");
+        }
+        sql.append(" LIMIT ?");
+        params.add(limit);
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                return TaskRowMapper.mapRows(rs);
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding page by user.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Opens a cursor over all tasks associated with a specific user that match the criteria.
+     * The statement is executed with a fetch size so rows are read from the database in batches.
+     * The statement stays open, and the connection held, until the cursor is closed.
+     *
+     * @param userId   the ID of the user whose tasks are to be streamed
+     * @param criteria the filters of the tasks
+     * @return a cursor over the tasks ordered by ID
+     * @throws ResourceMappingException if an error occurs while opening the cursor
+     */
+    @Override
+    public Cursor<Task> streamAllByUserId(Long userId, TaskCriteria criteria) {
+        StringBuilder sql = new StringBuilder(selectPageByUserId(criteria));
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        appendFilters(sql, params, criteria);
+        sql.append(" ORDER BY t.id");
+        Connection connection = dataSourceConfig.getConnection();
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(sql.toString());
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return new JdbcTaskCursor(statement, statement.executeQuery(),
+                    () -> dataSourceConfig.releaseConnection(connection));
+        } catch (SQLException throwables) {
+            closeQuietly(statement);
+            dataSourceConfig.releaseConnection(connection);
+            throw new ResourceMappingException("Error while streaming tasks by user.");
+        }
+    }
+
+    /**
+     * Builds the select of a user's tasks, reading only the columns of the criteria's sparse fieldset.
+     * Columns outside the fieldset are selected as NULL so that every column keeps its position.
+     *
+     * @param criteria the criteria holding the sparse fieldset
+     * @return the select statement without filters
+     */
+    private String selectPageByUserId(TaskCriteria criteria) {
+        return FIND_PAGE_BY_USER_ID.formatted(
+                criteria.includes(TaskField.TITLE.name()) ? "t.title" : "NULL",
+                criteria.includes(TaskField.DESCRIPTION.name()) ? "t.description" : "NULL",
+                criteria.includes(TaskField.EXPIRATION_DATE.name()) ? "t.expiration_date" : "NULL",
+                criteria.includes(TaskField.STATUS.name()) ? "t.status" : "NULL");
+    }
+
+    /**
+     * Appends the status and expiration date filters of the criteria to the query.
+     *
+     * @param sql      the query being built
+     * @param params   the parameters of the query
+     * @param criteria the criteria holding the filters
+     */
+    private void appendFilters(StringBuilder sql, List<Object> params, TaskCriteria criteria) {
+        if (criteria.getStatus() != null) {
+            sql.append(" AND t.status = ?");
+            params.add(criteria.getStatus().name());
+        }
+        if (criteria.getExpiresFrom() != null) {
+            sql.append(" AND t.expiration_date >= ?");
+            params.add(Timestamp.valueOf(criteria.getExpiresFrom()));
+        }
+        if (criteria.getExpiresTo() != null) {
+            sql.append(" AND t.expiration_date < ?");
+            params.add(Timestamp.valueOf(criteria.getExpiresTo()));
         }
     }
 
@@ -111,28 +440,29 @@ public class TaskRepositoryImpl implements TaskRepository {
      */
     @Override
     public void assignToUserById(Long taskId, Long userId) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(ASSIGN);
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(ASSIGN)) {
             statement.setLong(1, taskId);
             statement.setLong(2, userId);
             statement.executeUpdate();
-        } catch (SQLException throables) {
+        } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while assigning to user.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
     /**
      * Updates an existing task in the database with the provided information.
      *
-     * @param task the task with updated information
+     * @param task    the task with updated information
+     * @param ownerId the ID of the owner of the task
      * @throws ResourceMappingException if an error occurs while updating the task
      */
     @Override
-    public void update(Task task) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(UPDATE);
+    public void update(Task task, Long ownerId) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE)) {
             statement.setString(1, task.getTitle());
             if (task.getDescription() == null) {
                 statement.setNull(2, Types.VARCHAR);
@@ -145,61 +475,223 @@ public class TaskRepositoryImpl implements TaskRepository {
                 statement.setTimestamp(3, Timestamp.valueOf(task.getExpirationDate()));
             }
             statement.setString(4, task.getStatus().name());
-            statement.setLong(5, task.getId());
+            statement.setLong(5, ownerId);
+            statement.setLong(6, task.getId());
             statement.executeUpdate();
-        } catch (SQLException throables) {
+        } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while updating task.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
     /**
-     * Creates a new task in the database with the provided information.
+     * Creates a new task owned by a specific user in the database with the provided information.
      *
-     * @param task the task to be created
+     * @param task   the task to be created
+     * @param userId the ID of the user who owns the task
      * @throws ResourceMappingException if an error occurs while creating the task
      */
     @Override
-    public void create(Task task) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(CREATE, PreparedStatement.RETURN_GENERATED_KEYS);
-            statement.setString(1, task.getTitle());
+    public void create(Task task, Long userId) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(CREATE, PreparedStatement.RETURN_GENERATED_KEYS)) {
+            statement.setLong(1, userId);
+            statement.setString(2, task.getTitle());
             if (task.getDescription() == null) {
-                statement.setNull(2, Types.VARCHAR);
+                statement.setNull(3, Types.VARCHAR);
             } else {
-                statement.setString(2, task.getDescription());
+                statement.setString(3, task.getDescription());
             }
             if (task.getExpirationDate() == null) {
-                statement.setNull(3, Types.TIMESTAMP);
+                statement.setNull(4, Types.TIMESTAMP);
             } else {
-                statement.setTimestamp(3, Timestamp.valueOf(task.getExpirationDate()));
+                statement.setTimestamp(4, Timestamp.valueOf(task.getExpirationDate()));
             }
-            statement.setString(4, task.getStatus().name());
+            statement.setString(5, task.getStatus().name());
             statement.executeUpdate();
-            try (ResultSet rs = statement.getGeneratedKeys()){
+            try (ResultSet rs = statement.getGeneratedKeys()) {
                 rs.next();
                 task.setId(rs.getLong(1));
             }
-        } catch (SQLException throables) {
+        } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while creating task.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Creates the tasks and assigns them to a specific user with a single statement.
+     * The tasks are passed as one array per column, so the statement text is the same for any number of tasks.
+     *
+     * @param tasks  the tasks to be created
+     * @param userId the ID of the user to whom the tasks are to be assigned
+     * @return the generated IDs of the tasks, in the order of the given list
+     * @throws ResourceMappingException if an error occurs while creating the tasks
+     */
+    @Override
+    public List<Long> createAll(List<Task> tasks, Long userId) {
+        String[] titles = new String[tasks.size()];
+        String[] descriptions = new String[tasks.size()];
+        Timestamp[] expirationDates = new Timestamp[tasks.size()];
+        String[] statuses = new String[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            titles[i] = task.getTitle();
+            descriptions[i] = task.getDescription();
+            expirationDates[i] = task.getExpirationDate() == null ? null : Timestamp.valueOf(task.getExpirationDate());
+            statuses[i] = task.getStatus().name();
+        }
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(CREATE_ALL)) {
+            statement.setArray(1, connection.createArrayOf("varchar", titles));
+            statement.setArray(2, connection.createArrayOf("varchar", descriptions));
+            statement.setArray(3, connection.createArrayOf("timestamp", expirationDates));
+            statement.setArray(4, connection.createArrayOf("varchar", statuses));
+            statement.setLong(5, userId);
+            List<Long> ids = new ArrayList<>(tasks.size());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+            return ids;
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while creating tasks.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
     /**
-     * Deletes a task from the database based on its ID.
+     * Deletes a task and its assignments from the database based on its ID and the ID of its owner.
      *
-     * @param id the ID of the task to be deleted
+     * @param id      the ID of the task to be deleted
+     * @param ownerId the ID of the owner of the task
      * @throws ResourceMappingException if an error occurs while deleting the task
      */
     @Override
-    public void delete(Long id) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(DELETE);
+    public void delete(Long id, Long ownerId) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(DELETE)) {
             statement.setLong(1, id);
+            statement.setLong(2, ownerId);
+            statement.setLong(3, id);
             statement.executeUpdate();
-        } catch (SQLException throables) {
+        } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while deleting task.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Deletes a chunk of a user's tasks and their assignments from the database, skipping locked tasks.
+     *
+     * @param userId the ID of the owner of the tasks
+     * @param limit  the maximum number of tasks to delete
+     * @return the IDs of the deleted tasks
+     * @throws ResourceMappingException if an error occurs while deleting the tasks
+     */
+    @Override
+    public List<Long> deleteChunkByOwnerId(Long userId, int limit) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_CHUNK_BY_OWNER_ID)) {
+            statement.setLong(1, userId);
+            statement.setInt(2, limit);
+            statement.setLong(3, userId);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<Long> ids = new ArrayList<>();
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+                return ids;
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while deleting tasks of user.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Deletes a chunk of the assignments of tasks to a user from the database, skipping locked assignments.
+     *
+     * @param userId the ID of the user
+     * @param limit  the maximum number of assignments to delete
+     * @return the number of deleted assignments
+     * @throws ResourceMappingException if an error occurs while deleting the assignments
+     */
+    @Override
+    public int deleteAssignmentChunkByUserId(Long userId, int limit) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_ASSIGNMENT_CHUNK_BY_USER_ID)) {
+            statement.setLong(1, userId);
+            statement.setLong(2, userId);
+            statement.setInt(3, limit);
+            return statement.executeUpdate();
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while deleting task assignments of user.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Notifies the task events channel of a change of a task, delivered when the transaction commits.
+     *
+     * @param taskId  the ID of the changed task
+     * @param ownerId the ID of the owner of the task
+     * @param type    the kind of the change
+     * @throws ResourceMappingException if an error occurs while notifying
+     */
+    @Override
+    public void notifyChange(Long taskId, Long ownerId, TaskEventType type) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(NOTIFY_CHANGE)) {
+            statement.setString(1, type.name());
+            statement.setLong(2, ownerId);
+            statement.setLong(3, taskId);
+            statement.execute();
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while notifying task change.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Notifies the task events channel that a user's tasks should be read again, delivered when the transaction
+     * commits.
+     *
+     * @param userId the ID of the user
+     * @throws ResourceMappingException if an error occurs while notifying
+     */
+    @Override
+    public void notifyReload(Long userId) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(NOTIFY_RELOAD)) {
+            statement.setLong(1, userId);
+            statement.execute();
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while notifying task reload.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Closes the statement, ignoring the failure to close it.
+     *
+     * @param statement the statement to close, or null
+     */
+    private static void closeQuietly(Statement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            statement.close();
+        } catch (SQLException ignore) {}
+    }
+}
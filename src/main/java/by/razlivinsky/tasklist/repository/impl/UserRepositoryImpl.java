@@ -7,68 +7,104 @@ import by.razlivinsky.tasklist.repository.DataSourceConfig;
 import by.razlivinsky.tasklist.repository.UserRepository;
 import by.razlivinsky.tasklist.repository.mappers.UserRowMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * UserRepositoryImpl class provides an implementation of UserRepository interface for interacting with the database.
+ * It replaces the MyBatis mapper when the repository engine is set to jdbc.
+ * Every statement is closed after use, so the PostgreSQL driver reuses the statement it prepared on the server
+ * for the same SQL text on the same connection.
  *
  * @author razlivinsky
  * @since 09.03.2024
  */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "tasklist.repository", name = "engine", havingValue = "jdbc")
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
     private final DataSourceConfig dataSourceConfig;
 
-    private final String FIND_BY_ID = """
+    private final String AGGREGATE_COLUMNS = """
             SELECT u.id AS user_id,
                    u.name AS user_name,
             	   u.username AS user_username,
             	   u.password AS user_password,
-            	   ur.role AS user_role_role,
-            	   t.id AS task_id,
-            	   t.title AS task_title,
-            	   t.description AS task_description,
-            	   t.expiration_date AS task_expiration_date,
-                   t.status AS task_status
+            	   ARRAY(SELECT ur.role
+            	         FROM users_roles ur
+            	         WHERE ur.user_id = u.id) AS user_roles,
+            	   (SELECT json_agg(json_build_object(
+            	               'id', t.id,
+            	               'title', t.title,
+            	               'description', t.description,
+            	               'expirationDate', t.expiration_date,
+            	               'status', t.status) ORDER BY t.id)
+            	    FROM tasks t
+            	    WHERE t.owner_id = u.id) AS user_tasks
+            FROM users u
+            """;
+
+    private final String FIND_BY_ID = AGGREGATE_COLUMNS + "WHERE u.id = ? AND u.deleted_at IS NULL";
+
+    private final String FIND_BY_USERNAME = AGGREGATE_COLUMNS + "WHERE u.username = ? AND u.deleted_at IS NULL";
+
+    private final String FIND_PRINCIPAL_BY_ID = """
+            SELECT u.id AS user_id,
+                   u.name AS user_name,
+            	   u.username AS user_username,
+            	   u.password AS user_password,
+            	   ur.role AS user_role_role
             FROM users u
                    LEFT JOIN users_roles ur ON u.id = ur.user_id
-            	   LEFT JOIN users_tasks ut ON u.id = ut.user_id
-            	   LEFT JOIN tasks t ON ut.task_id = t.id
-            WHERE u.id = ?""";
+            WHERE u.id = ?
+              AND u.deleted_at IS NULL""";
 
-    private final String FIND_BY_USERNAME = """
+    private final String FIND_PRINCIPAL_BY_USERNAME = """
             SELECT u.id AS user_id,
                    u.name AS user_name,
             	   u.username AS user_username,
             	   u.password AS user_password,
-            	   ur.role AS user_role_role,
-            	   t.id AS task_id,
-            	   t.title AS task_title,
-            	   t.description AS task_description,
-            	   t.expiration_date AS task_expiration_date,
-                   t.status AS task_status
+            	   ur.role AS user_role_role
             FROM users u
                    LEFT JOIN users_roles ur ON u.id = ur.user_id
-            	   LEFT JOIN users_tasks ut ON u.id = ut.user_id
-            	   LEFT JOIN tasks t ON ut.task_id = t.id
-            WHERE u.username = ?""";
+            WHERE u.username = ?
+              AND u.deleted_at IS NULL""";
 
     private final String UPDATE = """
             UPDATE users
             SET name = ?,
                 username = ?,
                 password = ?
-            WHERE id = ?""";
+            WHERE id = ?
+              AND deleted_at IS NULL""";
+
+    private final String UPDATE_PASSWORD = """
+            UPDATE users
+            SET password = ?
+            WHERE id = ?
+              AND deleted_at IS NULL""";
 
     private final String CREATE = """
             INSERT INTO users (name, username, password)
             VALUES (?, ?, ?)""";
 
+    private final String EXISTS_BY_USERNAME = """
+            SELECT exists(
+                          SELECT 1
+                          FROM users
+                          WHERE username = ?
+            )""";
+
     private final String INSERT_USER_ROLE = """
             INSERT INTO users_roles (user_id, role)
             VALUES (?, ?)""";
@@ -76,14 +112,43 @@ public class UserRepositoryImpl implements UserRepository {
     private final String IS_TASK_OWNER = """
             SELECT exists(
                           SELECT 1
-                          FROM users_tasks
-                          WHERE user_id = ?
-                          AND task_id = ?
+                          FROM tasks
+                          WHERE owner_id = ?
+                          AND id = ?
             )""";
 
+    private final String IS_ACTIVE = """
+            SELECT exists(
+                          SELECT 1
+                          FROM users
+                          WHERE id = ?
+                          AND deleted_at IS NULL
+            )""";
+
+    private final String MARK_DELETED = """
+            UPDATE users
+            SET deleted_at = now()
+            WHERE id = ?
+              AND deleted_at IS NULL""";
+
+    private final String FIND_DELETED_IDS = """
+            SELECT id
+            FROM users
+            WHERE deleted_at IS NOT NULL
+            ORDER BY deleted_at
+            LIMIT ?""";
+
+    private final String COUNT_DELETED = """
+            SELECT count(*)
+            FROM users
+            WHERE deleted_at IS NOT NULL""";
+
     private final String DELETE = """
             DELETE FROM users
-            WHERE id = ?""";
+            WHERE id = ?
+              AND deleted_at IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM tasks WHERE owner_id = ?)
+              AND NOT EXISTS (SELECT 1 FROM users_tasks WHERE user_id = ?)""";
 
     /**
      * Retrieves a user by their ID from the database.
@@ -94,17 +159,16 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public Optional<User> findById(Long id) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(FIND_BY_ID,
-                    ResultSet.TYPE_SCROLL_INSENSITIVE,
-                    ResultSet.CONCUR_READ_ONLY);
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_BY_ID)) {
             statement.setLong(1, id);
             try (ResultSet rs = statement.executeQuery()) {
                 return Optional.ofNullable(UserRowMapper.mapRow(rs));
             }
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while finding user by id.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
@@ -117,17 +181,60 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public Optional<User> findByUsername(String username) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(FIND_BY_USERNAME,
-                    ResultSet.TYPE_SCROLL_INSENSITIVE,
-                    ResultSet.CONCUR_READ_ONLY);
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_BY_USERNAME)) {
             statement.setString(1, username);
             try (ResultSet rs = statement.executeQuery()) {
                 return Optional.ofNullable(UserRowMapper.mapRow(rs));
             }
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while finding user by username.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Retrieves the principal of a user by their ID from the database, without the user's tasks.
+     *
+     * @param id the ID of the user to retrieve
+     * @return an Optional containing the user principal, or empty if no user is found with the given ID
+     * @throws ResourceMappingException if an error occurs while retrieving the user
+     */
+    @Override
+    public Optional<User> findPrincipalById(Long id) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_PRINCIPAL_BY_ID)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return Optional.ofNullable(UserRowMapper.mapPrincipal(rs));
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while finding user principal by id.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Retrieves the principal of a user by their username from the database, without the user's tasks.
+     *
+     * @param username the username of the user to retrieve
+     * @return an Optional containing the user principal, or empty if no user is found with the given username
+     * @throws ResourceMappingException if an error occurs while retrieving the user
+     */
+    @Override
+    public Optional<User> findPrincipalByUsername(String username) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_PRINCIPAL_BY_USERNAME)) {
+            statement.setString(1, username);
+            try (ResultSet rs = statement.executeQuery()) {
+                return Optional.ofNullable(UserRowMapper.mapPrincipal(rs));
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while finding user principal by username.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
@@ -139,15 +246,38 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public void update(User user) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(UPDATE);
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE)) {
             statement.setString(1, user.getName());
             statement.setString(2, user.getUsername());
             statement.setString(3, user.getPassword());
             statement.setLong(4, user.getId());
+            statement.executeUpdate();
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while updating user.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Replaces the password hash of a user in the database.
+     *
+     * @param id       the ID of the user
+     * @param password the new password hash
+     * @throws ResourceMappingException if an error occurs while updating the password
+     */
+    @Override
+    public void updatePassword(Long id, String password) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_PASSWORD)) {
+            statement.setString(1, password);
+            statement.setLong(2, id);
+            statement.executeUpdate();
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while updating user password.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
@@ -159,19 +289,43 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public void create(User user) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(CREATE, PreparedStatement.RETURN_GENERATED_KEYS);
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(CREATE, PreparedStatement.RETURN_GENERATED_KEYS)) {
             statement.setString(1, user.getName());
             statement.setString(2, user.getUsername());
             statement.setString(3, user.getPassword());
             statement.executeUpdate();
-            try (ResultSet rs = statement.getGeneratedKeys()){
+            try (ResultSet rs = statement.getGeneratedKeys()) {
                 rs.next();
                 user.setId(rs.getLong(1));
             }
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while creating user.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Checks if a user with the given username exists in the database, including a user marked deleted.
+     *
+     * @param username the username to check
+     * @return true if the username is taken, otherwise false
+     * @throws ResourceMappingException if an error occurs while checking the username
+     */
+    @Override
+    public boolean existsByUsername(String username) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(EXISTS_BY_USERNAME)) {
+            statement.setString(1, username);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getBoolean(1);
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while checking if username exists.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
@@ -184,14 +338,15 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public void insertUserRole(Long userId, Role role) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(INSERT_USER_ROLE);
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_USER_ROLE)) {
             statement.setLong(1, userId);
             statement.setString(2, role.name());
             statement.executeUpdate();
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while inserting user role.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
@@ -205,9 +360,8 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public boolean isTaskOwner(Long userId, Long taskId) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(IS_TASK_OWNER);
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(IS_TASK_OWNER)) {
             statement.setLong(1, userId);
             statement.setLong(2, taskId);
             try (ResultSet rs = statement.executeQuery()) {
@@ -216,24 +370,120 @@ public class UserRepositoryImpl implements UserRepository {
             }
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while checking if user task owner.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Checks if a user exists in the database and is not marked deleted.
+     *
+     * @param id the ID of the user to check
+     * @return true if the user exists and is not marked deleted, otherwise false
+     * @throws ResourceMappingException if an error occurs while checking the user
+     */
+    @Override
+    public boolean isActive(Long id) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(IS_ACTIVE)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getBoolean(1);
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while checking if user active.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 
     /**
-     * Deletes a user from the database based on their ID.
+     * Marks a user in the database deleted based on their ID.
+     *
+     * @param id the ID of the user to be marked
+     * @return true if the user was marked, false if no user is found or the user is already marked
+     * @throws ResourceMappingException if an error occurs while marking the user
+     */
+    @Override
+    public boolean markDeleted(Long id) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(MARK_DELETED)) {
+            statement.setLong(1, id);
+            return statement.executeUpdate() > 0;
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while marking user deleted.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Retrieves the IDs of the users marked deleted from the database, the earliest marked first.
+     *
+     * @param limit the maximum number of IDs to retrieve
+     * @return the IDs of the users awaiting the purge
+     * @throws ResourceMappingException if an error occurs while retrieving the IDs
+     */
+    @Override
+    public List<Long> findDeletedIds(int limit) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_DELETED_IDS)) {
+            statement.setInt(1, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<Long> ids = new ArrayList<>();
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+                return ids;
+            }
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while finding deleted users.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Counts the users marked deleted in the database.
+     *
+     * @return the number of users awaiting the purge
+     * @throws ResourceMappingException if an error occurs while counting the users
+     */
+    @Override
+    public long countDeleted() {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(COUNT_DELETED);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while counting deleted users.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Deletes a user marked deleted, who neither owns tasks nor has assignments any more, from the database
+     * based on their ID.
      *
      * @param id the ID of the user to be deleted
+     * @return true if the user was deleted, false otherwise
      * @throws ResourceMappingException if an error occurs while deleting the user
      */
     @Override
-    public void delete(Long id) {
-        try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(DELETE);
+    public boolean delete(Long id) {
+        Connection connection = dataSourceConfig.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(DELETE)) {
             statement.setLong(1, id);
-            statement.executeUpdate();
+            statement.setLong(2, id);
+            statement.setLong(3, id);
+            return statement.executeUpdate() > 0;
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while deleting user.");
+        } finally {
+            dataSourceConfig.releaseConnection(connection);
         }
     }
 }
\ No newline at end of file
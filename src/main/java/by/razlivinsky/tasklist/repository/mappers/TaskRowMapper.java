@@ -11,11 +11,19 @@ import java.util.List;
 
 /**
  * TaskRowMapper class provides methods for mapping database result sets to Task objects.
+ * Columns are read by position, so task queries must select the id, title, description, expiration date
+ * and status columns in that order.
  *
  * @author razlivinsky
  * @since 11.03.2024
  */
 public class TaskRowMapper {
+    public static final int ID = 1;
+    public static final int TITLE = 2;
+    public static final int DESCRIPTION = 3;
+    public static final int EXPIRATION_DATE = 4;
+    public static final int STATUS = 5;
+
     /**
      * Maps a single row from the result set to a Task object.
      *
@@ -25,20 +33,34 @@ public class TaskRowMapper {
     @SneakyThrows
     public static Task mapRow(ResultSet resultSet) {
         if (resultSet.next()) {
-            Task task = new Task();
-            task.setId(resultSet.getLong("task_id"));
-            task.setTitle(resultSet.getString("task_title"));
-            task.setDescription(resultSet.getString("task_description"));
-            task.setStatus(Status.valueOf(resultSet.getString("task_status")));
-            Timestamp timestamp = resultSet.getTimestamp("task_expiration_date");
-            if (timestamp != null) {
-                task.setExpirationDate(timestamp.toLocalDateTime());
-            }
-            return task;
+            return mapCurrentRow(resultSet);
         }
         return null;
     }
 
+    /**
+     * Maps the row the result set is currently positioned on to a Task object without advancing it.
+     *
+     * @param resultSet the result set positioned on a row
+     * @return the Task object mapped from the current row
+     */
+    @SneakyThrows
+    public static Task mapCurrentRow(ResultSet resultSet) {
+        Task task = new Task();
+        task.setId(resultSet.getLong(ID));
+        task.setTitle(resultSet.getString(TITLE));
+        task.setDescription(resultSet.getString(DESCRIPTION));
+        String status = resultSet.getString(STATUS);
+        if (status != null) {
+            task.setStatus(Status.valueOf(status));
+        }
+        Timestamp timestamp = resultSet.getTimestamp(EXPIRATION_DATE);
+        if (timestamp != null) {
+            task.setExpirationDate(timestamp.toLocalDateTime());
+        }
+        return task;
+    }
+
     /**
      * Maps multiple rows from the result set to a list of Task objects.
      *
@@ -49,17 +71,9 @@ public class TaskRowMapper {
     public static List<Task> mapRows(ResultSet resultSet) {
         List<Task> tasks = new ArrayList<>();
         while (resultSet.next()) {
-            Task task = new Task();
-            task.setId(resultSet.getLong("task_id"));
-            if(!resultSet.wasNull()) {
-                task.setTitle(resultSet.getString("task_title"));
-                task.setDescription(resultSet.getString("task_description"));
-                task.setStatus(Status.valueOf(resultSet.getString("task_status")));
-                Timestamp timestamp = resultSet.getTimestamp("task_expiration_date");
-                if (timestamp != null) {
-                    task.setExpirationDate(timestamp.toLocalDateTime());
-                }
-                tasks.add(task);
+            resultSet.getLong(ID);
+            if (!resultSet.wasNull()) {
+                tasks.add(mapCurrentRow(resultSet));
             }
         }
         return tasks;
@@ -1,13 +1,13 @@
 package by.razlivinsky.tasklist.repository.mappers;
 
-import by.razlivinsky.tasklist.domain.task.Task;
 import by.razlivinsky.tasklist.domain.user.Role;
 import by.razlivinsky.tasklist.domain.user.User;
+import by.razlivinsky.tasklist.repository.handlers.RoleSetTypeHandler;
+import by.razlivinsky.tasklist.repository.handlers.TaskListTypeHandler;
 import lombok.SneakyThrows;
 
 import java.sql.ResultSet;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 /**
@@ -18,30 +18,53 @@ import java.util.Set;
  */
 public class UserRowMapper {
     /**
-     * Maps a row from the result set to a User object.
+     * Maps the single row of a user aggregate query to a User object.
+     * Roles are read from the user_roles array column and tasks from the user_tasks JSON column,
+     * so every role and every task is transferred exactly once.
      *
      * @param resultSet the result set obtained from the database
-     * @return the User object mapped from the result set data
+     * @return the User object mapped from the result set data, or null if the result set is empty
      */
     @SneakyThrows
     public static User mapRow(ResultSet resultSet) {
-        Set<Role> roles = new HashSet<>();
-        while (resultSet.next()) {
-            roles.add(Role.valueOf(resultSet.getString("user_role_role")));
-        }
-        resultSet.beforeFirst();
-        List<Task> tasks = TaskRowMapper.mapRows(resultSet);
-        resultSet.beforeFirst();
         if (resultSet.next()) {
             User user = new User();
             user.setId(resultSet.getLong("user_id"));
             user.setName(resultSet.getString("user_name"));
             user.setUsername(resultSet.getString("user_username"));
             user.setPassword(resultSet.getString("user_password"));
-            user.setRoles(roles);
-            user.setTasks(tasks);
+            user.setRoles(RoleSetTypeHandler.toRoles(resultSet.getArray("user_roles")));
+            user.setTasks(TaskListTypeHandler.toTasks(resultSet.getString("user_tasks")));
             return user;
         }
         return null;
     }
+
+    /**
+     * Maps the rows of a user principal query, one row per role, to a User object without tasks.
+     * The result set is read forward only, once.
+     *
+     * @param resultSet the result set obtained from the database
+     * @return the User object mapped from the result set data, or null if the result set is empty
+     */
+    @SneakyThrows
+    public static User mapPrincipal(ResultSet resultSet) {
+        User user = null;
+        Set<Role> roles = new HashSet<>();
+        while (resultSet.next()) {
+            if (user == null) {
+                user = new User();
+                user.setId(resultSet.getLong("user_id"));
+                user.setName(resultSet.getString("user_name"));
+                user.setUsername(resultSet.getString("user_username"));
+                user.setPassword(resultSet.getString("user_password"));
+                user.setRoles(roles);
+            }
+            String role = resultSet.getString("user_role_role");
+            if (role != null) {
+                roles.add(Role.valueOf(role));
+            }
+        }
+        return user;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package by.razlivinsky.tasklist.repository.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RequestStatementCounter class counts, for the request handled by the current thread, how many times each mapped
+ * statement is executed. Counting happens only between {@link #begin()} and {@link #end()}, so statements executed
+ * outside a request are not counted.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public final class RequestStatementCounter {
+    private static final ThreadLocal<Map<String, Integer>> COUNTS = new ThreadLocal<>();
+
+    private RequestStatementCounter() {
+    }
+
+    /**
+     * Starts counting the statements of the current thread.
+     */
+    public static void begin() {
+        COUNTS.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Counts one execution of the statement if counting was started on the current thread.
+     *
+     * @param statement the name of the mapped statement
+     */
+    public static void record(String statement) {
+        Map<String, Integer> counts = COUNTS.get();
+        if (counts != null) {
+            counts.merge(statement, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Stops counting the statements of the current thread.
+     *
+     * @return the number of executions of each statement, in the order of their first execution
+     */
+    public static Map<String, Integer> end() {
+        Map<String, Integer> counts = COUNTS.get();
+        COUNTS.remove();
+        return counts == null ? Collections.emptyMap() : counts;
+    }
+}
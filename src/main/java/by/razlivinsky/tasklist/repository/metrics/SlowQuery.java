@@ -0,0 +1,27 @@
+package by.razlivinsky.tasklist.repository.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * SlowQuery class represents one execution of a mapped statement that exceeded the slow query threshold:
+ * its bound SQL, its parameters with sensitive values redacted, and the plan collected for it afterwards.
+ * The plan, or the reason it could not be collected, is filled in asynchronously.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+public class SlowQuery {
+    private long id;
+    private Instant recordedAt;
+    private String statement;
+    private double durationMs;
+    private String sql;
+    private List<String> parameters;
+    private volatile JsonNode plan;
+    private volatile String explainError;
+}
@@ -0,0 +1,224 @@
+package by.razlivinsky.tasklist.repository.metrics;
+
+import by.razlivinsky.tasklist.repository.TaskRepository;
+import by.razlivinsky.tasklist.repository.UserRepository;
+import by.razlivinsky.tasklist.service.props.RepositoryProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SlowQueryRecorder class keeps the latest executions of task and user statements that exceeded the slow query
+ * threshold in a bounded ring buffer. The bound SQL and parameters are captured on the executing thread, with
+ * password parameters redacted; the plan is collected afterwards with EXPLAIN (FORMAT JSON) on a separate
+ * connection by a single background thread, so recording never delays the slow request further.
+ * Plans that cannot be queued for collection are skipped.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+public class SlowQueryRecorder {
+    private static final Set<String> RECORDED_MAPPERS = Set.of(TaskRepository.class.getName(),
+            UserRepository.class.getName());
+    private static final String SENSITIVE_PARAMETER = "password";
+    private static final String REDACTED = "[REDACTED]";
+    private static final String EXPLAIN = "EXPLAIN (FORMAT JSON) ";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final int capacity;
+    private final ThreadPoolExecutor explainExecutor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+    /**
+     * Constructs a new SlowQueryRecorder, starting its explain thread when recording is enabled.
+     *
+     * @param dataSource           the data source the plans are collected from
+     * @param objectMapper         the object mapper parsing the plans
+     * @param repositoryProperties the repository properties holding the slow query settings
+     */
+    public SlowQueryRecorder(DataSource dataSource, ObjectMapper objectMapper,
+                             RepositoryProperties repositoryProperties) {
+        RepositoryProperties.SlowQueries properties = repositoryProperties.getSlowQueries();
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.capacity = properties.getCapacity();
+        this.explainExecutor = enabled
+                ? new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getExplainQueueCapacity()),
+                new CustomizableThreadFactory("slowQueryExplainer-"))
+                : null;
+    }
+
+    /**
+     * Records the execution if recording is enabled, the statement belongs to the task or user mapper
+     * and the execution exceeded the threshold, and queues the collection of its plan.
+     *
+     * @param mappedStatement the executed statement
+     * @param boundSql        the SQL and parameters the statement was executed with
+     * @param elapsedNanos    the time the execution took, in nanoseconds
+     */
+    public void record(MappedStatement mappedStatement, BoundSql boundSql, long elapsedNanos) {
+        if (!enabled || elapsedNanos < thresholdNanos || !RECORDED_MAPPERS.contains(namespace(mappedStatement))) {
+            return;
+        }
+        Configuration configuration = mappedStatement.getConfiguration();
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        Object[] values = new Object[mappings.size()];
+        List<String> parameters = new ArrayList<>(mappings.size());
+        for (int i = 0; i < values.length; i++) {
+            String property = mappings.get(i).getProperty();
+            values[i] = parameterValue(configuration, boundSql, property);
+            boolean sensitive = property.toLowerCase(Locale.ROOT).contains(SENSITIVE_PARAMETER);
+            parameters.add(property + "=" + (sensitive ? REDACTED : String.valueOf(values[i])));
+        }
+
+        SlowQuery slowQuery = new SlowQuery();
+        slowQuery.setId(sequence.incrementAndGet());
+        slowQuery.setRecordedAt(Instant.now());
+        slowQuery.setStatement(StatementMetricsInterceptor.statementName(mappedStatement.getId()));
+        slowQuery.setDurationMs(elapsedNanos / 1_000_000.0);
+        slowQuery.setSql(boundSql.getSql());
+        slowQuery.setParameters(parameters);
+        synchronized (slowQueries) {
+            slowQueries.addFirst(slowQuery);
+            while (slowQueries.size() > capacity) {
+                slowQueries.removeLast();
+            }
+        }
+        try {
+            explainExecutor.execute(() -> explain(slowQuery, configuration, mappings, values));
+        } catch (RejectedExecutionException e) {
+            slowQuery.setExplainError("Too many plans waiting to be collected.");
+        }
+    }
+
+    /**
+     * Returns the recorded slow executions, the newest first.
+     *
+     * @return the slow executions
+     */
+    public List<SlowQuery> getSlowQueries() {
+        synchronized (slowQueries) {
+            return new ArrayList<>(slowQueries);
+        }
+    }
+
+    /**
+     * Checks if slow executions are recorded.
+     *
+     * @return true if recording is enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Collects the plan of the slow execution on a connection of its own, binding the captured parameter values
+     * with the statement's type handlers. The statement is only planned, never executed. Any failure, including
+     * a type handler that cannot bind a value, is recorded as the explain error of the execution.
+     *
+     * @param slowQuery     the slow execution
+     * @param configuration the MyBatis configuration
+     * @param mappings      the parameter mappings of the bound SQL
+     * @param values        the captured parameter values
+     */
+    @SuppressWarnings("unchecked")
+    private void explain(SlowQuery slowQuery, Configuration configuration, List<ParameterMapping> mappings,
+                         Object[] values) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(EXPLAIN + slowQuery.getSql())) {
+                for (int i = 0; i < values.length; i++) {
+                    ParameterMapping mapping = mappings.get(i);
+                    JdbcType jdbcType = mapping.getJdbcType();
+                    if (values[i] == null && jdbcType == null) {
+                        jdbcType = configuration.getJdbcTypeForNull();
+                    }
+                    ((TypeHandler<Object>) mapping.getTypeHandler()).setParameter(statement, i + 1, values[i], jdbcType);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    slowQuery.setPlan(objectMapper.readTree(resultSet.getString(1)));
+                }
+            }
+        } catch (SQLException | JsonProcessingException | RuntimeException e) {
+            slowQuery.setExplainError(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        }
+    }
+
+    /**
+     * Resolves the value of a parameter of the bound SQL the way MyBatis does when binding it.
+     *
+     * @param configuration the MyBatis configuration
+     * @param boundSql      the bound SQL
+     * @param property      the property of the parameter
+     * @return the value of the parameter
+     */
+    private static Object parameterValue(Configuration configuration, BoundSql boundSql, String property) {
+        Object parameterObject = boundSql.getParameterObject();
+        if (boundSql.hasAdditionalParameter(property)) {
+            return boundSql.getAdditionalParameter(property);
+        }
+        if (parameterObject == null) {
+            return null;
+        }
+        if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+            return parameterObject;
+        }
+        return configuration.newMetaObject(parameterObject).getValue(property);
+    }
+
+    /**
+     * Returns the namespace of the mapped statement, which is the name of its mapper interface.
+     *
+     * @param mappedStatement the mapped statement
+     * @return the namespace
+     */
+    private static String namespace(MappedStatement mappedStatement) {
+        String id = mappedStatement.getId();
+        return id.substring(0, Math.max(id.lastIndexOf('.'), 0));
+    }
+
+    /**
+     * Stops the explain thread when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (explainExecutor != null) {
+            explainExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package by.razlivinsky.tasklist.repository.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StatementMetricsInterceptor class is a MyBatis plugin recording, for every mapped statement, the time its
+ * executions take, the rows they return or affect and the rows they fetch from the database, and counting
+ * the statements executed for the current request.
+ * Rows fetched exceeding rows returned reveal joins that MyBatis collapses into fewer objects.
+ * For a statement opening a cursor, the timer covers opening it, while its rows are counted as the cursor
+ * is iterated and recorded when it is closed.
+ * Statements are named by their mapper and method, such as TaskRepository.findAllByUserId.
+ * Every execution is also offered to the slow query recorder.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasklist.repository.metrics", name = "enabled", matchIfMissing = true)
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "queryCursor", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+    public static final String STATEMENT_TIMER = "mybatis.statement";
+    public static final String ROWS_SUMMARY = "mybatis.statement.rows";
+    public static final String FETCHED_ROWS_SUMMARY = "mybatis.statement.rows.fetched";
+    public static final String STATEMENT_TAG = "statement";
+
+    private final MeterRegistry meterRegistry;
+    private final SlowQueryRecorder slowQueryRecorder;
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new StatementMetricsInterceptor.
+     *
+     * @param meterRegistry     the registry the statement metrics are registered in
+     * @param slowQueryRecorder the recorder of slow statements
+     */
+    public StatementMetricsInterceptor(MeterRegistry meterRegistry, SlowQueryRecorder slowQueryRecorder) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryRecorder = slowQueryRecorder;
+    }
+
+    /**
+     * Executes the statement, timing it and counting the rows it fetches and returns or affects.
+     * A cursor is returned wrapped, so that its rows are counted as they are read.
+     *
+     * @param invocation the intercepted statement handler call
+     * @return the result of the call
+     * @throws Throwable if the statement fails
+     */
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) SystemMetaObject.forObject(invocation.getTarget())
+                .getValue("delegate.mappedStatement");
+        StatementMeters statementMeters = meters.computeIfAbsent(mappedStatement.getId(),
+                id -> register(mappedStatement));
+        RequestStatementCounter.record(statementMeters.name());
+
+        AtomicLong fetchedRows = new AtomicLong();
+        boolean query = !"update".equals(invocation.getMethod().getName());
+        if (query) {
+            Object[] args = invocation.getArgs();
+            args[0] = countingStatement((Statement) args[0], fetchedRows);
+        }
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = invocation.proceed();
+            success = true;
+            if (result instanceof Cursor<?> cursor) {
+                return new CountingCursor<>(cursor, fetchedRows, statementMeters);
+            }
+            if (result instanceof List<?> rows) {
+                statementMeters.rows().record(rows.size());
+            } else if (result instanceof Integer affectedRows) {
+                statementMeters.rows().record(affectedRows);
+            }
+            if (query) {
+                statementMeters.fetchedRows().record(fetchedRows.get());
+            }
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            (success ? statementMeters.success() : statementMeters.error())
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            slowQueryRecorder.record(mappedStatement, ((StatementHandler) invocation.getTarget()).getBoundSql(),
+                    elapsedNanos);
+        }
+    }
+
+    /**
+     * Returns the short name of a mapped statement: its mapper and method, without the package.
+     *
+     * @param statementId the fully qualified ID of the mapped statement
+     * @return the short name of the statement
+     */
+    public static String statementName(String statementId) {
+        int method = statementId.lastIndexOf('.');
+        int mapper = method > 0 ? statementId.lastIndexOf('.', method - 1) : -1;
+        return statementId.substring(mapper + 1);
+    }
+
+    /**
+     * Wraps the statement so that the rows read from its result sets are counted.
+     *
+     * @param statement   the JDBC statement
+     * @param fetchedRows the counter of fetched rows
+     * @return the counting statement
+     */
+    private static Statement countingStatement(Statement statement, AtomicLong fetchedRows) {
+        return proxy(statement, (proxy, method, args) -> {
+            Object result = invoke(statement, method, args);
+            if (result instanceof ResultSet resultSet && "getResultSet".equals(method.getName())) {
+                return countingResultSet(resultSet, fetchedRows);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Wraps the result set so that every row it moves to is counted.
+     *
+     * @param resultSet   the JDBC result set
+     * @param fetchedRows the counter of fetched rows
+     * @return the counting result set
+     */
+    private static ResultSet countingResultSet(ResultSet resultSet, AtomicLong fetchedRows) {
+        return proxy(resultSet, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                fetchedRows.incrementAndGet();
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Creates a proxy implementing every interface of the target.
+     *
+     * @param target  the proxied object
+     * @param handler the invocation handler
+     * @param <T>     the type of the target
+     * @return the proxy
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(),
+                ClassUtils.getAllInterfaces(target), handler);
+    }
+
+    /**
+     * Invokes the method on the target, rethrowing the exception the method threw.
+     *
+     * @param target the target object
+     * @param method the method to invoke
+     * @param args   the arguments of the method
+     * @return the result of the method
+     * @throws Throwable if the method throws
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Registers the meters of the mapped statement.
+     *
+     * @param mappedStatement the mapped statement
+     * @return the meters of the statement
+     */
+    private StatementMeters register(MappedStatement mappedStatement) {
+        String name = statementName(mappedStatement.getId());
+        String type = mappedStatement.getSqlCommandType().name().toLowerCase(Locale.ROOT);
+        return new StatementMeters(name,
+                timer(name, type, "success"),
+                timer(name, type, "error"),
+                DistributionSummary.builder(ROWS_SUMMARY)
+                        .description("Rows returned or affected by a mapped statement")
+                        .tag(STATEMENT_TAG, name)
+                        .register(meterRegistry),
+                DistributionSummary.builder(FETCHED_ROWS_SUMMARY)
+                        .description("Rows fetched from the database by a mapped statement")
+                        .tag(STATEMENT_TAG, name)
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Registers the execution timer of the statement for the outcome.
+     *
+     * @param name    the short name of the statement
+     * @param type    the SQL command type of the statement
+     * @param outcome the outcome of the executions
+     * @return the timer
+     */
+    private Timer timer(String name, String type, String outcome) {
+        return Timer.builder(STATEMENT_TIMER)
+                .description("Time spent executing a mapped statement and mapping its results")
+                .tag(STATEMENT_TAG, name)
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * CountingCursor class wraps a MyBatis cursor, counting the objects read from it and recording them,
+     * with the rows fetched for them, once the cursor is closed. The session closes its cursors when it ends,
+     * so a cursor the caller does not close is recorded then.
+     *
+     * @param <T> the type of the objects read from the cursor
+     */
+    private static final class CountingCursor<T> implements Cursor<T> {
+        private final Cursor<T> delegate;
+        private final AtomicLong fetchedRows;
+        private final StatementMeters statementMeters;
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        /**
+         * Constructs a new CountingCursor.
+         *
+         * @param delegate        the wrapped cursor
+         * @param fetchedRows     the counter of the rows fetched for the cursor
+         * @param statementMeters the meters of the statement that opened the cursor
+         */
+        CountingCursor(Cursor<T> delegate, AtomicLong fetchedRows, StatementMeters statementMeters) {
+            this.delegate = delegate;
+            this.fetchedRows = fetchedRows;
+            this.statementMeters = statementMeters;
+        }
+
+        /**
+         * Checks whether the cursor has started fetching rows and is not closed.
+         *
+         * @return true if the cursor is open
+         */
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        /**
+         * Checks whether all the rows of the cursor have been read.
+         *
+         * @return true if the cursor is consumed
+         */
+        @Override
+        public boolean isConsumed() {
+            return delegate.isConsumed();
+        }
+
+        /**
+         * Returns the index of the current object read from the cursor.
+         *
+         * @return the index of the current object, or -1 if none has been read
+         */
+        @Override
+        public int getCurrentIndex() {
+            return delegate.getCurrentIndex();
+        }
+
+        /**
+         * Returns the iterator of the cursor, counting every object it returns.
+         *
+         * @return the counting iterator
+         */
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> iterator = delegate.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    T next = iterator.next();
+                    rows.incrementAndGet();
+                    return next;
+                }
+            };
+        }
+
+        /**
+         * Closes the cursor and records its rows, once.
+         *
+         * @throws IOException if the cursor cannot be closed
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                delegate.close();
+            } finally {
+                if (recorded.compareAndSet(false, true)) {
+                    statementMeters.rows().record(rows.get());
+                    statementMeters.fetchedRows().record(fetchedRows.get());
+                }
+            }
+        }
+    }
+
+    /**
+     * StatementMeters record holds the meters of one mapped statement, registered on its first execution.
+     *
+     * @param name        the short name of the statement
+     * @param success     the timer of successful executions
+     * @param error       the timer of failed executions
+     * @param rows        the summary of rows returned or affected
+     * @param fetchedRows the summary of rows fetched
+     */
+    private record StatementMeters(String name, Timer success, Timer error,
+                                   DistributionSummary rows, DistributionSummary fetchedRows) {
+    }
+}
@@ -0,0 +1,138 @@
+package by.razlivinsky.tasklist.repository.notify;
+
+import by.razlivinsky.tasklist.domain.task.TaskEvent;
+import by.razlivinsky.tasklist.domain.task.TaskEventType;
+import by.razlivinsky.tasklist.service.props.TaskProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * TaskNotificationListener class holds one dedicated connection to the primary, listening on the task events
+ * channel, and publishes every notification it receives as a TaskEvent application event. The connection is opened
+ * outside the connection pools, so it neither takes a pooled connection for good nor is retired by the pool.
+ * Notifications sent while the connection is down are lost, so after reconnecting the listener publishes
+ * a 'RELOAD' event for every user.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "tasklist.tasks.stream", name = "enabled", matchIfMissing = true)
+public class TaskNotificationListener implements AutoCloseable {
+    public static final String CHANNEL = "task_events";
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long reconnectDelayMillis;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a new TaskNotificationListener.
+     *
+     * @param dataSourceProperties the spring.datasource properties of the primary
+     * @param objectMapper         the object mapper parsing the notifications
+     * @param eventPublisher       the publisher of the task events
+     * @param taskProperties       the task properties holding the stream settings
+     */
+    public TaskNotificationListener(DataSourceProperties dataSourceProperties, ObjectMapper objectMapper,
+                                    ApplicationEventPublisher eventPublisher, TaskProperties taskProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.reconnectDelayMillis = taskProperties.getStream().getReconnectDelay().toMillis();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("taskListen-");
+        threadFactory.setDaemon(true);
+        this.thread = threadFactory.newThread(this::listen);
+    }
+
+    /**
+     * Starts listening once the application is ready, so that the events are published to registered listeners.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Listens on the channel until closed, reconnecting after the reconnect delay whenever the connection fails.
+     */
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnecting) {
+                    TaskEvent reload = new TaskEvent();
+                    reload.setType(TaskEventType.RELOAD);
+                    eventPublisher.publishEvent(reload);
+                }
+                reconnecting = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            publish(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Task events listener lost its connection, reconnecting in {} ms", reconnectDelayMillis, e);
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the payload of a notification and publishes it as a task event, skipping a payload that cannot be
+     * parsed or published, so that one bad notification does not stop the listener.
+     *
+     * @param payload the JSON payload of the notification
+     */
+    private void publish(String payload) {
+        try {
+            eventPublisher.publishEvent(objectMapper.readValue(payload, TaskEvent.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Skipping task event that could not be published: {}", payload, e);
+        }
+    }
+
+    /**
+     * Stops listening; the connection is closed within the poll timeout.
+     */
+    @Override
+    public void close() {
+        running = false;
+        thread.interrupt();
+    }
+}
@@ -0,0 +1,110 @@
+package by.razlivinsky.tasklist.repository.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReplicaLagMonitor class periodically measures how far the replica lags behind the primary and tells whether
+ * the replica is fresh enough to serve reads. A replica that has replayed all of the primary's WAL has no lag,
+ * whatever the age of its last replayed transaction; otherwise the lag is the time since that transaction.
+ * A server that is not in recovery, such as the primary itself acting as the replica, has no lag.
+ * A replica that cannot be probed is considered unusable until the next successful probe.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+    private static final String PRIMARY_LSN = "SELECT pg_current_wal_lsn()";
+    private static final String REPLICA_LAG = """
+            SELECT pg_is_in_recovery(),
+                   COALESCE(pg_wal_lsn_diff(CAST(? AS pg_lsn), pg_last_wal_replay_lsn()), 0),
+                   COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)""";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+    private volatile double lagSeconds = Double.NaN;
+
+    /**
+     * Constructs a new ReplicaLagMonitor, registers the lag gauge and starts probing.
+     *
+     * @param primary       the primary data source
+     * @param replica       the replica data source
+     * @param maxLag        the largest lag at which the replica still serves reads
+     * @param checkInterval the interval between probes
+     * @param meterRegistry the registry the lag gauge is registered in
+     */
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, Duration checkInterval,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        Gauge.builder("tasklist.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Seconds the replica lags behind the primary, NaN while it cannot be probed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replicaLag-"));
+        this.scheduler.scheduleWithFixedDelay(this::probe, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks if the replica was probed successfully and lags no more than allowed.
+     *
+     * @return true if reads may be served by the replica, false otherwise
+     */
+    public boolean isReplicaUsable() {
+        return lagSeconds <= maxLagSeconds;
+    }
+
+    /**
+     * Returns the lag measured by the last probe.
+     *
+     * @return the lag in seconds, or NaN if the last probe failed
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * Measures the lag of the replica against the current WAL position of the primary.
+     */
+    private void probe() {
+        try (Connection primaryConnection = primary.getConnection();
+             Statement primaryStatement = primaryConnection.createStatement();
+             ResultSet primaryLsn = primaryStatement.executeQuery(PRIMARY_LSN);
+             Connection replicaConnection = replica.getConnection();
+             PreparedStatement replicaStatement = replicaConnection.prepareStatement(REPLICA_LAG)) {
+            primaryLsn.next();
+            replicaStatement.setString(1, primaryLsn.getString(1));
+            try (ResultSet lag = replicaStatement.executeQuery()) {
+                lag.next();
+                boolean inRecovery = lag.getBoolean(1);
+                double bytesBehind = lag.getDouble(2);
+                lagSeconds = !inRecovery || bytesBehind <= 0 ? 0 : Math.max(lag.getDouble(3), 0);
+            }
+        } catch (SQLException | RuntimeException e) {
+            lagSeconds = Double.NaN;
+        }
+    }
+
+    /**
+     * Stops probing.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
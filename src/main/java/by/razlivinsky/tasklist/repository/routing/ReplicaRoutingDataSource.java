@@ -0,0 +1,154 @@
+package by.razlivinsky.tasklist.repository.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ReplicaRoutingDataSource class routes the connections of read-only transactions to the replica and all other
+ * connections to the primary. A read-only transaction still goes to the primary when the replica lags more than
+ * allowed or cannot be probed, and when the authenticated user committed a write through this node within the
+ * read-your-writes window. The recent writers are remembered per node, so users see their own changes only while
+ * their requests are served by the node that committed them; a read served by another node may go to a replica
+ * that has not applied the write yet, so requests of a user must stick to one node for that guarantee to hold.
+ * The route is decided when the connection is obtained, so the data source must be wrapped in a
+ * LazyConnectionDataSourceProxy for the read-only flag of the transaction to be known at that point.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String ROUTING_COUNTER = "tasklist.datasource.routing";
+
+    /**
+     * Route enum represents the data sources a connection can be routed to.
+     */
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Cache<String, Boolean> recentWriters;
+    private final Counter writes;
+    private final Counter nonTransactional;
+    private final Counter reads;
+    private final Counter readYourWrites;
+    private final Counter replicaLag;
+
+    /**
+     * Constructs a new ReplicaRoutingDataSource.
+     *
+     * @param primary              the primary data source
+     * @param replica              the replica data source
+     * @param lagMonitor           the monitor of the replica lag
+     * @param readYourWritesWindow the time after a user's write during which their reads go to the primary
+     * @param meterRegistry        the registry the routing counters are registered in
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    Duration readYourWritesWindow, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+        this.writes = counter(meterRegistry, Route.PRIMARY, "write");
+        this.nonTransactional = counter(meterRegistry, Route.PRIMARY, "non-transactional");
+        this.reads = counter(meterRegistry, Route.REPLICA, "read-only");
+        this.readYourWrites = counter(meterRegistry, Route.PRIMARY, "read-your-writes");
+        this.replicaLag = counter(meterRegistry, Route.PRIMARY, "replica-lag");
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Decides the route of the connection being obtained. A write transaction marks the authenticated user
+     * as a recent writer once it commits. A connection obtained outside of any transaction goes to the primary
+     * without marking the user, since it is not known to write.
+     *
+     * @return the route of the connection
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            nonTransactional.increment();
+            return Route.PRIMARY;
+        }
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            if (username != null) {
+                markWriterAfterCommit(username);
+            }
+            return Route.PRIMARY;
+        }
+        if (username != null && recentWriters.getIfPresent(username) != null) {
+            readYourWrites.increment();
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            replicaLag.increment();
+            return Route.PRIMARY;
+        }
+        reads.increment();
+        return Route.REPLICA;
+    }
+
+    /**
+     * Marks the user as a recent writer after the current transaction commits.
+     *
+     * @param username the username of the writer
+     */
+    private void markWriterAfterCommit(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(username, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * Returns the username of the authenticated user of the current request.
+     *
+     * @return the username, or null if no user is authenticated
+     */
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Registers the counter of the connections routed for the reason.
+     *
+     * @param meterRegistry the meter registry
+     * @param route         the route of the connections
+     * @param reason        the reason of the route
+     * @return the counter
+     */
+    private static Counter counter(MeterRegistry meterRegistry, Route route, String reason) {
+        return Counter.builder(ROUTING_COUNTER)
+                .description("Connections obtained, by the data source they were routed to")
+                .tag("target", route.name().toLowerCase(Locale.ROOT))
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
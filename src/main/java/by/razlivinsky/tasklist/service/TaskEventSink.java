@@ -0,0 +1,31 @@
+package by.razlivinsky.tasklist.service;
+
+import by.razlivinsky.tasklist.domain.task.TaskOutboxEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * TaskEventSink interface is the destination the task outbox relay delivers task changes to. A sink receives
+ * every change at least once: a batch whose delivery fails, or whose delivery cannot be recorded, is delivered
+ * again, so receivers should ignore event IDs they have already seen.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public interface TaskEventSink {
+    /**
+     * Returns the name of the sink, under which its delivery offset is recorded.
+     *
+     * @return the name of the sink
+     */
+    String getName();
+
+    /**
+     * Delivers a batch of task changes, returning only once the sink holds all of them.
+     *
+     * @param events the task changes, ordered by ID
+     * @throws IOException if the batch cannot be delivered
+     */
+    void publish(List<TaskOutboxEvent> events) throws IOException;
+}
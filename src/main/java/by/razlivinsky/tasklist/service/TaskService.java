@@ -1,8 +1,14 @@
 package by.razlivinsky.tasklist.service;
 
 import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskExportFormat;
+import by.razlivinsky.tasklist.domain.task.TaskPage;
 
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * TaskService interface defines methods for interacting with task entities.
@@ -14,10 +20,19 @@ public interface TaskService {
     /**
      * Retrieves a task by its ID.
      *
-     * @param id the ID of the task to retrieve
+     * @param id      the ID of the task to retrieve
+     * @param ownerId the ID of the owner of the task
      * @return the task with the specified ID
      */
-    Task getById(Long id);
+    Task getById(Long id, Long ownerId);
+
+    /**
+     * Retrieves the ID of the owner of a task.
+     *
+     * @param id the ID of the task
+     * @return the ID of the owner of the task
+     */
+    Long getOwnerId(Long id);
 
 
     /**
@@ -28,13 +43,33 @@ public interface TaskService {
      */
     List<Task> getAllByUserId(Long id);
 
+    /**
+     * Retrieves one page of tasks associated with a specific user, filtered and ordered by the given criteria.
+     *
+     * @param id       the ID of the user whose tasks are to be retrieved
+     * @param criteria the filters, sort order, cursor and page size
+     * @return the page of tasks together with the cursor of the next page
+     */
+    TaskPage getPageByUserId(Long id, TaskCriteria criteria);
+
+    /**
+     * Streams all tasks associated with a specific user that match the criteria to the consumer, one at a time,
+     * without materializing the whole list.
+     *
+     * @param id       the ID of the user whose tasks are to be streamed
+     * @param criteria the filters of the tasks
+     * @param consumer the consumer receiving each task in ID order
+     */
+    void streamAllByUserId(Long id, TaskCriteria criteria, Consumer<Task> consumer);
+
     /**
      * Updates an existing task with the provided information.
      *
-     * @param task the updated task information
+     * @param task    the updated task information
+     * @param ownerId the ID of the owner of the task
      * @return the updated task
      */
-    Task update(Task task);
+    Task update(Task task, Long ownerId);
 
     /**
      * Creates a new task with the provided information and associates it with the specified user.
@@ -45,10 +80,42 @@ public interface TaskService {
      */
     Task create(Task task, Long userId);
 
+    /**
+     * Creates the tasks with the provided information and associates all of them with the specified user.
+     *
+     * @param tasks  the tasks to be created
+     * @param userId the ID of the user to whom the tasks are to be associated
+     * @return the created tasks, in the order of the given list
+     */
+    List<Task> createAll(List<Task> tasks, Long userId);
+
+    /**
+     * Creates the tasks read from the iterator and associates all of them with the specified user in bulk,
+     * without materializing them.
+     *
+     * @param tasks  the tasks to be created
+     * @param userId the ID of the user to whom the tasks are to be associated
+     * @return the number of created tasks
+     */
+    long importAll(Iterator<Task> tasks, Long userId);
+
+    /**
+     * Writes all tasks that match the criteria to the output stream in the format, without materializing them,
+     * optionally with the ID of the user each task is associated with.
+     *
+     * @param criteria   the filters of the tasks
+     * @param withOwners whether to include the owner of each task
+     * @param format     the format of the output
+     * @param out        the output stream to write to
+     * @return the number of exported tasks
+     */
+    long exportAll(TaskCriteria criteria, boolean withOwners, TaskExportFormat format, OutputStream out);
+
     /**
      * Deletes a task based on its ID.
      *
-     * @param id the ID of the task to be deleted
+     * @param id      the ID of the task to be deleted
+     * @param ownerId the ID of the owner of the task
      */
-    void delete(Long id);
+    void delete(Long id, Long ownerId);
 }
\ No newline at end of file
@@ -10,7 +10,7 @@ import by.razlivinsky.tasklist.domain.user.User;
  */
 public interface UserService {
     /**
-     * Retrieves a user by their ID.
+     * Retrieves a user by their ID, without the user's tasks.
      *
      * @param id the ID of the user to retrieve
      * @return the user with the specified ID
@@ -18,7 +18,15 @@ public interface UserService {
     User getById(Long id);
 
     /**
-     * Retrieves a user by their username.
+     * Retrieves a user by their ID together with all of the user's tasks.
+     *
+     * @param id the ID of the user to retrieve
+     * @return the user with the specified ID and their tasks
+     */
+    User getWithTasksById(Long id);
+
+    /**
+     * Retrieves a user by their username, without the user's tasks.
      *
      * @param username the username of the user to retrieve
      * @return the user with the specified username
@@ -41,6 +49,14 @@ public interface UserService {
      */
     User create(User user);
 
+    /**
+     * Replaces the stored password hash of a user.
+     *
+     * @param id              the ID of the user
+     * @param encodedPassword the new password hash
+     */
+    void updatePassword(Long id, String encodedPassword);
+
     /**
      * Checks if a user is the owner of a specific task.
      *
@@ -51,7 +67,7 @@ public interface UserService {
     boolean isTaskOwner(Long userId, Long taskId);
 
     /**
-     * Deletes a user based on their ID.
+     * Deletes a user based on their ID. The user is hidden at once and the user's data is purged later.
      *
      * @param id the ID of the user to be deleted
      */
@@ -0,0 +1,67 @@
+package by.razlivinsky.tasklist.service.impl;
+
+import by.razlivinsky.tasklist.repository.UserRepository;
+import by.razlivinsky.tasklist.service.props.UserProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ActiveUserIndex class remembers, for recently active users, whether they exist and are not marked deleted,
+ * so that requests authenticated from the claims of a token can be refused for deleted users without a query
+ * per request. A user marked deleted on this node is refused at once; a user marked deleted on another node
+ * is refused once the remembered answer expires.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+public class ActiveUserIndex {
+    private static final String CACHE_NAME = "activeUserIndex";
+
+    private final LoadingCache<Long, Boolean> activeUsers;
+
+    /**
+     * Constructs a new ActiveUserIndex and registers the hit and miss metrics of its cache.
+     *
+     * @param userRepository     the user repository the state of the users is loaded from
+     * @param transactionManager the transaction manager the loads run read-only in
+     * @param userProperties     the user properties holding the index settings
+     * @param meterRegistry      the registry the cache metrics are bound to
+     */
+    public ActiveUserIndex(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                           UserProperties userProperties, MeterRegistry meterRegistry) {
+        UserProperties.ActiveIndex indexProperties = userProperties.getActiveIndex();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        this.activeUsers = Caffeine.newBuilder()
+                .maximumSize(indexProperties.getMaximumSize())
+                .expireAfterWrite(indexProperties.getExpireAfterWrite())
+                .recordStats()
+                .build(userId -> readOnly.execute(status -> userRepository.isActive(userId)));
+        CaffeineCacheMetrics.monitor(meterRegistry, activeUsers, CACHE_NAME);
+    }
+
+    /**
+     * Checks whether the user exists and is not marked deleted, loading the state of the user if needed.
+     *
+     * @param userId the ID of the user
+     * @return true if the user exists and is not marked deleted, false otherwise
+     */
+    public boolean isActive(Long userId) {
+        return Boolean.TRUE.equals(activeUsers.get(userId));
+    }
+
+    /**
+     * Records that the user is marked deleted.
+     *
+     * @param userId the ID of the user
+     */
+    public void markDeleted(Long userId) {
+        activeUsers.put(userId, Boolean.FALSE);
+    }
+}
@@ -1,14 +1,16 @@
 package by.razlivinsky.tasklist.service.impl;
 
+import by.razlivinsky.tasklist.domain.exception.ResourceNotFoundException;
+import by.razlivinsky.tasklist.domain.exception.ServiceUnavailableException;
 import by.razlivinsky.tasklist.domain.user.User;
 import by.razlivinsky.tasklist.service.AuthService;
 import by.razlivinsky.tasklist.service.UserService;
 import by.razlivinsky.tasklist.web.dto.auth.JwtRequest;
 import by.razlivinsky.tasklist.web.dto.auth.JwtResponse;
 import by.razlivinsky.tasklist.web.security.JwtTokenProvider;
+import by.razlivinsky.tasklist.web.security.PasswordVerifier;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -20,22 +22,38 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
-    private final AuthenticationManager authenticationManager;
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordVerifier passwordVerifier;
 
     /**
      * Logs in a user and generates a JWT response.
+     * The user's principal is loaded once and used both to check the password and to issue the tokens;
+     * the password is checked on the bounded password verifier pool. For an unknown username the password is
+     * checked against a dummy hash of the current encoder before failing, so that the response time does not
+     * reveal which usernames exist. A stored hash computed with another work factor than the current one
+     * is replaced after the password is verified.
      *
      * @param loginRequest the login request containing user credentials
      * @return the JWT response with the generated token
+     * @throws BadCredentialsException if the user does not exist or the password does not match
      */
     @Override
     public JwtResponse login(JwtRequest loginRequest) {
         JwtResponse jwtResponse = new JwtResponse();
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
-        User user = userService.getByUsername(loginRequest.getUsername());
+        User user;
+        try {
+            user = userService.getByUsername(loginRequest.getUsername());
+        } catch (ResourceNotFoundException e) {
+            passwordVerifier.matches(loginRequest.getPassword(), passwordVerifier.getDummyHash());
+            throw new BadCredentialsException("Bad credentials.");
+        }
+        if (!passwordVerifier.matches(loginRequest.getPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Bad credentials.");
+        }
+        if (passwordVerifier.needsRehash(user.getPassword())) {
+            rehashPassword(user.getId(), loginRequest.getPassword());
+        }
         jwtResponse.setId(user.getId());
         jwtResponse.setUsername(user.getUsername());
         jwtResponse.setAccessToken(jwtTokenProvider.createAccessToken(user.getId(), user.getUsername(), user.getRoles()));
@@ -43,6 +61,21 @@ public class AuthServiceImpl implements AuthService {
         return jwtResponse;
     }
 
+    /**
+     * Replaces the user's stored password hash with one computed by the current password encoder.
+     * When the verifier pool is saturated the upgrade is skipped and tried again on the next login.
+     *
+     * @param userId      the ID of the user
+     * @param rawPassword the user's verified raw password
+     */
+    private void rehashPassword(Long userId, String rawPassword) {
+        try {
+            userService.updatePassword(userId, passwordVerifier.encode(rawPassword));
+        } catch (ServiceUnavailableException e) {
+            // the stored hash still verifies; it is upgraded on a later login
+        }
+    }
+
     /**
      * Refreshes a JWT token using the provided refresh token.
      *
@@ -0,0 +1,135 @@
+package by.razlivinsky.tasklist.service.impl;
+
+import by.razlivinsky.tasklist.domain.task.TaskOutboxEvent;
+import by.razlivinsky.tasklist.service.TaskEventSink;
+import by.razlivinsky.tasklist.service.props.OutboxProperties;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * NdjsonFileTaskEventSink class appends the task changes to a local file, one JSON document per line.
+ * A batch is encoded into one buffer and appended with a single write, and, when sync is enabled, flushed to
+ * the disk before the batch counts as delivered, so a crash loses no change that was removed from the outbox.
+ * A failed write is truncated back to the end of the previous batch, so the file never keeps a half-written line.
+ * A change delivered again after a failure appears twice in the file, with the same event ID.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class NdjsonFileTaskEventSink implements TaskEventSink, AutoCloseable {
+    private static final String NAME = "file";
+
+    private final Path path;
+    private final boolean sync;
+    private FileChannel channel;
+
+    /**
+     * Constructs a new NdjsonFileTaskEventSink; the file is opened on the first delivery.
+     *
+     * @param fileProperties the settings of the file sink
+     */
+    public NdjsonFileTaskEventSink(OutboxProperties.File fileProperties) {
+        this.path = Path.of(fileProperties.getPath()).toAbsolutePath();
+        this.sync = fileProperties.isSync();
+    }
+
+    /**
+     * Returns the name of the sink.
+     *
+     * @return the name of the sink
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Appends the batch of task changes to the file. If the write or the flush fails, the file is truncated
+     * to its length before the batch, as far as it can still be, and closed.
+     *
+     * @param events the task changes, ordered by ID
+     * @throws IOException if the file cannot be opened, written or flushed
+     */
+    @Override
+    public synchronized void publish(List<TaskOutboxEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder(events.size() * 256);
+        for (TaskOutboxEvent event : events) {
+            lines.append(event.getJson()).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        FileChannel fileChannel = open();
+        long start = fileChannel.size();
+        try {
+            while (buffer.hasRemaining()) {
+                fileChannel.write(buffer);
+            }
+            if (sync) {
+                fileChannel.force(false);
+            }
+        } catch (IOException e) {
+            truncate(fileChannel, start, e);
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Truncates the file to the given length, dropping the part of a batch that was written before a failure.
+     * A failure of the truncation is attached to the failure of the write.
+     *
+     * @param fileChannel the channel of the file
+     * @param length      the length of the file before the batch
+     * @param failure     the failure of the write
+     */
+    private static void truncate(FileChannel fileChannel, long length, IOException failure) {
+        try {
+            if (fileChannel.size() > length) {
+                fileChannel.truncate(length);
+                fileChannel.force(false);
+            }
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Opens the file for appending, creating it and its directory if needed, unless it is open already.
+     *
+     * @return the channel of the file
+     * @throws IOException if the file cannot be opened
+     */
+    private FileChannel open() throws IOException {
+        if (channel == null) {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    /**
+     * Closes the file; it is opened again by the next delivery.
+     */
+    @Override
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // the channel is released either way
+        } finally {
+            channel = null;
+        }
+    }
+}
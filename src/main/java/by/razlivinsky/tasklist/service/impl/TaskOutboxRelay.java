@@ -0,0 +1,137 @@
+package by.razlivinsky.tasklist.service.impl;
+
+import by.razlivinsky.tasklist.domain.task.TaskOutboxEvent;
+import by.razlivinsky.tasklist.repository.TaskOutboxRepository;
+import by.razlivinsky.tasklist.service.TaskEventSink;
+import by.razlivinsky.tasklist.service.props.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskOutboxRelay class delivers the task changes recorded in the task outbox to the task event sink.
+ * Each batch is claimed, published and recorded in the sink's offset in one transaction: the claimed rows are
+ * deleted by that transaction, so a batch the sink did not take, or whose offset could not be recorded, is rolled
+ * back into the outbox and delivered again. The relay drains the outbox batch after batch while batches come back
+ * full and polls it at a fixed interval otherwise. Rows locked by another node's relay are skipped, so several
+ * nodes may relay at the same time, each delivering its batches in event ID order.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Slf4j
+@Component
+public class TaskOutboxRelay implements AutoCloseable {
+    private final TaskOutboxRepository taskOutboxRepository;
+    private final TaskEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties outboxProperties;
+    private final Counter relayedEvents;
+    private final Counter failedBatches;
+    private final Timer batchTimer;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a new TaskOutboxRelay, registers its metrics and, if the outbox is enabled, schedules its runs.
+     *
+     * @param taskOutboxRepository the task outbox repository
+     * @param sink                 the sink the task changes are delivered to
+     * @param transactionManager   the transaction manager of the primary data source
+     * @param outboxProperties     the outbox properties
+     * @param meterRegistry        the registry the relay metrics are registered in
+     */
+    public TaskOutboxRelay(TaskOutboxRepository taskOutboxRepository, TaskEventSink sink,
+                           PlatformTransactionManager transactionManager, OutboxProperties outboxProperties,
+                           MeterRegistry meterRegistry) {
+        this.taskOutboxRepository = taskOutboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxProperties = outboxProperties;
+        this.relayedEvents = Counter.builder("tasklist.outbox.relayed")
+                .description("Task changes delivered from the outbox")
+                .tag("sink", sink.getName())
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("tasklist.outbox.failures")
+                .description("Outbox batches rolled back after a failed delivery")
+                .tag("sink", sink.getName())
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("tasklist.outbox.batch")
+                .description("Time taken to claim, deliver and record one outbox batch")
+                .tag("sink", sink.getName())
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("taskOutbox-"));
+        if (outboxProperties.isEnabled()) {
+            long interval = outboxProperties.getPollInterval().toMillis();
+            this.scheduler.scheduleWithFixedDelay(this::relay, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Relays batches until the outbox holds less than a full batch, waiting for the retry delay after a failure.
+     */
+    private void relay() {
+        int batchSize = outboxProperties.getBatchSize();
+        try {
+            while (batchTimer.record(() -> relayBatch(batchSize)) == batchSize) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            log.warn("Task outbox relay to sink '{}' failed, retrying in {} ms", sink.getName(),
+                    outboxProperties.getRetryDelay().toMillis(), e);
+            try {
+                Thread.sleep(outboxProperties.getRetryDelay().toMillis());
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Claims one batch, delivers it to the sink and advances the sink's offset in one transaction.
+     *
+     * @param batchSize the maximum number of changes in the batch
+     * @return the number of changes delivered
+     * @throws UncheckedIOException if the sink fails to take the batch
+     */
+    private int relayBatch(int batchSize) {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<TaskOutboxEvent> events = taskOutboxRepository.claimBatch(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.publish(events);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            taskOutboxRepository.advanceOffset(sink.getName(), events.get(events.size() - 1).getId(), events.size());
+            return events.size();
+        });
+        int count = relayed == null ? 0 : relayed;
+        relayedEvents.increment(count);
+        return count;
+    }
+
+    /**
+     * Stops relaying; a batch whose transaction has not committed stays in the outbox and is delivered again.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,244 @@
+package by.razlivinsky.tasklist.service.impl;
+
+import by.razlivinsky.tasklist.repository.TaskRepository;
+import by.razlivinsky.tasklist.service.props.TaskProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+
+/**
+ * TaskOwnershipIndex class keeps, for recently active users, a primitive hash set of the IDs of the tasks they own,
+ * so that ownership checks are answered from memory instead of a query.
+ * A user's set is loaded with one read-only query on first use and then kept up to date as tasks are created
+ * and deleted, each change costing a constant time whatever the number of the user's tasks or of the indexed users.
+ * A negative answer may be stale, so callers confirm it against the database.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+public class TaskOwnershipIndex {
+    private static final String CACHE_NAME = "taskOwnershipIndex";
+
+    private final LoadingCache<Long, TaskIdSet> ownedTaskIds;
+
+    /**
+     * TaskIdSet class is an open-addressing hash set of task IDs stored in a primitive array, with linear probing
+     * and backward-shift deletion, so it holds no boxed values and leaves no tombstones. Task IDs are positive,
+     * which leaves 0 to mark the empty slots. The set is read and changed under its own lock, which only
+     * the requests of one user contend for.
+     */
+    private static final class TaskIdSet {
+        private static final long EMPTY = 0L;
+        private static final int MIN_CAPACITY = 8;
+
+        private long[] slots;
+        private int size;
+
+        /**
+         * Constructs a new TaskIdSet sized for the given number of IDs.
+         *
+         * @param expectedSize the number of IDs the set is expected to hold
+         */
+        TaskIdSet(int expectedSize) {
+            this.slots = new long[capacityFor(expectedSize)];
+        }
+
+        /**
+         * Checks whether the set holds the ID.
+         *
+         * @param id the task ID
+         * @return true if the set holds the ID, false otherwise
+         */
+        synchronized boolean contains(long id) {
+            int mask = slots.length - 1;
+            for (int i = slot(id, mask); slots[i] != EMPTY; i = (i + 1) & mask) {
+                if (slots[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Adds the ID to the set, doubling the table when it becomes three quarters full.
+         *
+         * @param id the task ID
+         */
+        synchronized void add(long id) {
+            if ((size + 1) * 4L > slots.length * 3L) {
+                rehash(slots.length * 2);
+            }
+            if (insert(slots, id)) {
+                size++;
+            }
+        }
+
+        /**
+         * Removes the ID from the set, shifting back the entries probed past its slot.
+         *
+         * @param id the task ID
+         */
+        synchronized void remove(long id) {
+            int mask = slots.length - 1;
+            int gap = slot(id, mask);
+            while (slots[gap] != id) {
+                if (slots[gap] == EMPTY) {
+                    return;
+                }
+                gap = (gap + 1) & mask;
+            }
+            for (int i = (gap + 1) & mask; slots[i] != EMPTY; i = (i + 1) & mask) {
+                int home = slot(slots[i], mask);
+                if (((i - home) & mask) >= ((i - gap) & mask)) {
+                    slots[gap] = slots[i];
+                    gap = i;
+                }
+            }
+            slots[gap] = EMPTY;
+            size--;
+        }
+
+        /**
+         * Moves the IDs into a table of the given capacity.
+         *
+         * @param capacity the new capacity, a power of two
+         */
+        private void rehash(int capacity) {
+            long[] rehashed = new long[capacity];
+            for (long id : slots) {
+                if (id != EMPTY) {
+                    insert(rehashed, id);
+                }
+            }
+            slots = rehashed;
+        }
+
+        /**
+         * Puts the ID into the first free slot of its probe sequence unless the table holds it already.
+         *
+         * @param table the table
+         * @param id    the task ID
+         * @return true if the ID was inserted, false if the table held it already
+         */
+        private static boolean insert(long[] table, long id) {
+            int mask = table.length - 1;
+            int i = slot(id, mask);
+            while (table[i] != EMPTY) {
+                if (table[i] == id) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = id;
+            return true;
+        }
+
+        /**
+         * Returns the home slot of the ID, spreading consecutive IDs over the table.
+         *
+         * @param id   the task ID
+         * @param mask the capacity of the table minus one
+         * @return the home slot
+         */
+        private static int slot(long id, int mask) {
+            return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+
+        /**
+         * Returns the smallest power-of-two capacity holding the given number of IDs at most three quarters full.
+         *
+         * @param expectedSize the number of IDs
+         * @return the capacity
+         */
+        private static int capacityFor(int expectedSize) {
+            int needed = (int) Math.min((expectedSize * 4L) / 3 + 1, 1 << 30);
+            return Math.max(MIN_CAPACITY, Integer.highestOneBit(needed - 1) << 1);
+        }
+    }
+
+    /**
+     * Constructs a new TaskOwnershipIndex and registers the hit and miss metrics of its cache.
+     *
+     * @param taskRepository     the task repository the owned task IDs are loaded from
+     * @param transactionManager the transaction manager the loads run read-only in
+     * @param taskProperties     the task properties holding the index settings
+     * @param meterRegistry      the registry the cache metrics are bound to
+     */
+    public TaskOwnershipIndex(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                              TaskProperties taskProperties, MeterRegistry meterRegistry) {
+        TaskProperties.OwnershipIndex indexProperties = taskProperties.getOwnershipIndex();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        this.ownedTaskIds = Caffeine.newBuilder()
+                .maximumSize(indexProperties.getMaximumSize())
+                .expireAfterAccess(indexProperties.getExpireAfterAccess())
+                .recordStats()
+                .build(userId -> readOnly.execute(status -> toSet(taskRepository.findIdsByUserId(userId))));
+        CaffeineCacheMetrics.monitor(meterRegistry, ownedTaskIds, CACHE_NAME);
+    }
+
+    /**
+     * Checks whether the index lists the task as owned by the user, loading the user's task IDs if needed.
+     *
+     * @param userId the ID of the user
+     * @param taskId the ID of the task
+     * @return true if the user owns the task according to the index, false otherwise
+     */
+    public boolean contains(Long userId, Long taskId) {
+        return ownedTaskIds.get(userId).contains(taskId);
+    }
+
+    /**
+     * Records that the user owns the tasks. Users whose task IDs are not loaded yet are left alone.
+     *
+     * @param userId  the ID of the user
+     * @param taskIds the IDs of the tasks owned by the user
+     */
+    public void add(Long userId, Collection<Long> taskIds) {
+        TaskIdSet ids = ownedTaskIds.asMap().get(userId);
+        if (ids != null) {
+            taskIds.forEach(ids::add);
+        }
+    }
+
+    /**
+     * Removes the task from the index of its owner. Users whose task IDs are not loaded are left alone.
+     *
+     * @param userId the ID of the owner of the deleted task
+     * @param taskId the ID of the deleted task
+     */
+    public void remove(Long userId, Long taskId) {
+        TaskIdSet ids = ownedTaskIds.asMap().get(userId);
+        if (ids != null) {
+            ids.remove(taskId);
+        }
+    }
+
+    /**
+     * Drops the user's task IDs from the index.
+     *
+     * @param userId the ID of the user
+     */
+    public void invalidate(Long userId) {
+        ownedTaskIds.invalidate(userId);
+    }
+
+    /**
+     * Builds the set of the task IDs.
+     *
+     * @param taskIds the task IDs
+     * @return the set of the task IDs
+     */
+    private static TaskIdSet toSet(Collection<Long> taskIds) {
+        TaskIdSet ids = new TaskIdSet(taskIds.size());
+        taskIds.forEach(ids::add);
+        return ids;
+    }
+}
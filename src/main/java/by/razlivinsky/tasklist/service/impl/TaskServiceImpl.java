@@ -1,15 +1,39 @@
 package by.razlivinsky.tasklist.service.impl;
 
+import by.razlivinsky.tasklist.config.CachingConfig;
+import by.razlivinsky.tasklist.domain.exception.ResourceMappingException;
 import by.razlivinsky.tasklist.domain.exception.ResourceNotFoundException;
 import by.razlivinsky.tasklist.domain.task.Status;
 import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskChangeType;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskCursor;
+import by.razlivinsky.tasklist.domain.task.TaskEventType;
+import by.razlivinsky.tasklist.domain.task.TaskExportFormat;
+import by.razlivinsky.tasklist.domain.task.TaskField;
+import by.razlivinsky.tasklist.domain.task.TaskPage;
+import by.razlivinsky.tasklist.domain.task.TaskSort;
+import by.razlivinsky.tasklist.repository.TaskCopyRepository;
+import by.razlivinsky.tasklist.repository.TaskOutboxRepository;
 import by.razlivinsky.tasklist.repository.TaskRepository;
 import by.razlivinsky.tasklist.service.TaskService;
+import by.razlivinsky.tasklist.service.props.TaskProperties;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * TaskServiceImpl class provides the implementation for task-related operations.
@@ -19,20 +43,42 @@ import java.util.List;
  */
 @Service
 @RequiredArgsConstructor
+@CacheConfig(cacheNames = CachingConfig.TASKS_CACHE)
 public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
+    private final TaskCopyRepository taskCopyRepository;
+    private final TaskOutboxRepository taskOutboxRepository;
+    private final TaskProperties taskProperties;
+    private final TaskOwnershipIndex taskOwnershipIndex;
 
     /**
-     * Retrieves a task by its ID.
+     * Retrieves a task by its ID, reading it through the task cache.
+     * Concurrent misses on the same ID are loaded from the database once, from the owner's partition only.
      *
-     * @param id the ID of the task to retrieve
+     * @param id      the ID of the task to retrieve
+     * @param ownerId the ID of the owner of the task
      * @return the task with the specified ID
      * @throws ResourceNotFoundException if the task with the given ID is not found
      */
     @Override
     @Transactional(readOnly = true)
-    public Task getById(Long id) {
-        return taskRepository.findById(id)
+    @Cacheable(key = "#id", sync = true)
+    public Task getById(Long id, Long ownerId) {
+        return taskRepository.findById(id, ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found."));
+    }
+
+    /**
+     * Retrieves the ID of the owner of a task, for callers that do not know it from the ownership check.
+     *
+     * @param id the ID of the task
+     * @return the ID of the owner of the task
+     * @throws ResourceNotFoundException if the task with the given ID is not found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Long getOwnerId(Long id) {
+        return taskRepository.findOwnerIdById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found."));
     }
 
@@ -48,26 +94,107 @@ public class TaskServiceImpl implements TaskService {
         return taskRepository.findAllByUserId(id);
     }
 
+    /**
+     * Retrieves one page of tasks associated with a specific user, filtered and ordered by the given criteria.
+     * The page size defaults to the configured size and is capped at the configured maximum.
+     * The expiration date is always read when sorting by it, because the next cursor is built from it.
+     *
+     * @param id       the ID of the user whose tasks are to be retrieved
+     * @param criteria the filters, sort order, cursor and page size
+     * @return the page of tasks together with the cursor of the next page, which is null on the last page
+     * @throws IllegalStateException if the page size or the cursor is invalid
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage getPageByUserId(Long id, TaskCriteria criteria) {
+        if (criteria.getSort() == null) {
+            criteria.setSort(TaskSort.ID);
+        }
+        if (criteria.getFields() != null && criteria.getSort() == TaskSort.EXPIRATION_DATE) {
+            Set<TaskField> fields = EnumSet.copyOf(criteria.getFields());
+            fields.add(TaskField.EXPIRATION_DATE);
+            criteria.setFields(fields);
+        }
+        int limit = resolvePageSize(criteria.getLimit());
+        TaskCursor cursor = null;
+        if (criteria.getCursor() != null) {
+            cursor = TaskCursor.decode(criteria.getCursor());
+            if (cursor.getSort() != criteria.getSort()) {
+                throw new IllegalStateException("Cursor does not match sort order.");
+            }
+        }
+        List<Task> tasks = taskRepository.findPageByUserId(id, criteria, cursor, limit + 1);
+        String nextCursor = null;
+        if (tasks.size() > limit) {
+            tasks.remove(limit);
+            nextCursor = TaskCursor.of(criteria.getSort(), tasks.get(limit - 1)).encode();
+        }
+        return new TaskPage(tasks, nextCursor);
+    }
+
+    /**
+     * Streams all tasks associated with a specific user that match the criteria to the consumer.
+     * The underlying cursor is held open for the duration of the read-only transaction.
+     *
+     * @param id       the ID of the user whose tasks are to be streamed
+     * @param criteria the filters of the tasks
+     * @param consumer the consumer receiving each task in ID order
+     * @throws ResourceMappingException if the cursor cannot be closed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllByUserId(Long id, TaskCriteria criteria, Consumer<Task> consumer) {
+        try (Cursor<Task> cursor = taskRepository.streamAllByUserId(id, criteria)) {
+            cursor.forEach(consumer);
+        } catch (IOException e) {
+            throw new ResourceMappingException("Error while streaming tasks.");
+        }
+    }
+
+    /**
+     * Resolves the effective page size from the requested one.
+     *
+     * @param requested the requested page size, or null for the default
+     * @return the page size to use
+     * @throws IllegalStateException if the requested page size is not positive
+     */
+    private int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return taskProperties.getPageSize();
+        }
+        if (requested < 1) {
+            throw new IllegalStateException("Page size must be positive.");
+        }
+        return Math.min(requested, taskProperties.getMaxPageSize());
+    }
+
     /**
      * Updates an existing task with the provided information.
-     * If the status is not provided, it defaults to 'TODO'.
+     * If the status is not provided, it defaults to 'TODO'. The cached task is evicted once the update commits,
+     * and the change is recorded in the task outbox and notified to the task event listeners.
      *
-     * @param task the updated task information
+     * @param task    the updated task information
+     * @param ownerId the ID of the owner of the task
      * @return the updated task
      */
     @Override
     @Transactional
-    public Task update(Task task) {
+    @CacheEvict(key = "#task.id")
+    public Task update(Task task, Long ownerId) {
         if (task.getStatus() == null) {
             task.setStatus(Status.TODO);
         }
-        taskRepository.update(task);
+        taskRepository.update(task, ownerId);
+        taskOutboxRepository.append(task.getId(), ownerId, TaskChangeType.UPDATED);
+        taskRepository.notifyChange(task.getId(), ownerId, TaskEventType.UPDATED);
         return task;
     }
 
     /**
      * Creates a new task with the provided information and associates it with the specified user.
-     * The status of the task defaults to 'TODO'.
+     * The status of the task defaults to 'TODO'. The created task is cached once the creation commits,
+     * recorded in the task ownership index, recorded in the task outbox as created and assigned,
+     * and notified to the task event listeners.
      *
      * @param task   the task to be created
      * @param userId the ID of the user to whom the task is to be associated
@@ -75,21 +202,101 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Transactional
+    @CachePut(key = "#result.id")
     public Task create(Task task, Long userId) {
         task.setStatus(Status.TODO);
-        taskRepository.create(task);
+        taskRepository.create(task, userId);
+        taskOutboxRepository.append(task.getId(), userId, TaskChangeType.CREATED);
         taskRepository.assignToUserById(task.getId(), userId);
+        taskOutboxRepository.append(task.getId(), userId, TaskChangeType.ASSIGNED);
+        taskOwnershipIndex.add(userId, List.of(task.getId()));
+        taskRepository.notifyChange(task.getId(), userId, TaskEventType.CREATED);
         return task;
     }
 
     /**
-     * Deletes a task based on its ID.
+     * Creates the tasks with the provided information and associates all of them with the specified user
+     * in one transaction and one statement, which also records them in the task outbox.
+     * The status of every task defaults to 'TODO'.
+     * The created tasks are recorded in the task ownership index, and the task event listeners are told to read
+     * the user's tasks again.
+     *
+     * @param tasks  the tasks to be created
+     * @param userId the ID of the user to whom the tasks are to be associated
+     * @return the created tasks, in the order of the given list
+     * @throws IllegalStateException if the batch is empty or larger than the configured maximum
+     */
+    @Override
+    @Transactional
+    public List<Task> createAll(List<Task> tasks, Long userId) {
+        if (tasks.isEmpty()) {
+            throw new IllegalStateException("Batch must contain at least one task.");
+        }
+        if (tasks.size() > taskProperties.getMaxBatchSize()) {
+            throw new IllegalStateException("Batch must contain at most " + taskProperties.getMaxBatchSize() + " tasks.");
+        }
+        tasks.forEach(task -> task.setStatus(Status.TODO));
+        List<Long> ids = taskRepository.createAll(tasks, userId);
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(ids.get(i));
+        }
+        taskOwnershipIndex.add(userId, ids);
+        taskRepository.notifyReload(userId);
+        return tasks;
+    }
+
+    /**
+     * Creates the tasks read from the iterator and associates all of them with the specified user in one
+     * transaction, copying them into a staging table first, and records them in the task outbox.
+     * The status of every task is 'TODO'.
+     * The user's task IDs are dropped from the task ownership index, as the created IDs are not read back,
+     * and the task event listeners are told to read the user's tasks again.
+     *
+     * @param tasks  the tasks to be created
+     * @param userId the ID of the user to whom the tasks are to be associated
+     * @return the number of created tasks
+     */
+    @Override
+    @Transactional
+    public long importAll(Iterator<Task> tasks, Long userId) {
+        long created = taskCopyRepository.copyAll(tasks, userId);
+        taskOwnershipIndex.invalidate(userId);
+        taskRepository.notifyReload(userId);
+        return created;
+    }
+
+    /**
+     * Writes all tasks that match the criteria to the output stream in the format, as the database produces them.
+     * The export runs in a read-only transaction, so it is served by the replica when one is configured.
+     *
+     * @param criteria   the filters of the tasks
+     * @param withOwners whether to include the owner of each task
+     * @param format     the format of the output
+     * @param out        the output stream to write to
+     * @return the number of exported tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAll(TaskCriteria criteria, boolean withOwners, TaskExportFormat format, OutputStream out) {
+        return taskCopyRepository.copyOut(criteria, withOwners, format, out);
+    }
+
+    /**
+     * Deletes a task based on its ID. The cached task is evicted once the deletion commits,
+     * and the task is removed from its owner's entry in the task ownership index. The deletion is recorded
+     * in the task outbox and notified to the task event listeners before the task is gone, while the task
+     * can still be read. A task that does not exist is left alone: every statement finds no row.
      *
-     * @param id the ID of the task to be deleted
+     * @param id      the ID of the task to be deleted
+     * @param ownerId the ID of the owner of the task
      */
     @Override
     @Transactional
-    public void delete(Long id) {
-        taskRepository.delete(id);
+    @CacheEvict(key = "#id")
+    public void delete(Long id, Long ownerId) {
+        taskOutboxRepository.append(id, ownerId, TaskChangeType.DELETED);
+        taskRepository.notifyChange(id, ownerId, TaskEventType.DELETED);
+        taskRepository.delete(id, ownerId);
+        taskOwnershipIndex.remove(ownerId, id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package by.razlivinsky.tasklist.service.impl;
+
+import by.razlivinsky.tasklist.config.CachingConfig;
+import by.razlivinsky.tasklist.domain.user.UserPurgeProgress;
+import by.razlivinsky.tasklist.repository.TaskRepository;
+import by.razlivinsky.tasklist.repository.UserRepository;
+import by.razlivinsky.tasklist.service.props.UserProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UserPurger class removes the data of users marked deleted in the background. Each user's tasks, with their
+ * assignments, are deleted in chunks of bounded size, then the user's assignments to other users' tasks, and
+ * finally the user with the roles. Every chunk is a statement of its own, so no transaction holds many locks or
+ * much WAL, and the purger pauses between chunks to leave room for the regular load. Rows locked by other
+ * transactions are skipped and picked up by a later chunk, so several nodes may purge at the same time; since
+ * a short chunk may only mean that rows were skipped, each phase runs until a chunk deletes nothing, and the user
+ * is deleted only if none of the user's tasks or assignments is left, otherwise it is retried by the next run.
+ * A purge interrupted by a failure or a shutdown is resumed by the next run.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Slf4j
+@Component
+public class UserPurger implements AutoCloseable {
+    private static final String ROWS_COUNTER = "tasklist.users.purge.rows";
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final CacheManager cacheManager;
+    private final TaskOwnershipIndex taskOwnershipIndex;
+    private final UserProperties.Purge purgeProperties;
+    private final Counter deletedTasks;
+    private final Counter deletedAssignments;
+    private final Counter purgedUsers;
+    private final Timer chunkTimer;
+    private final AtomicLong pendingUsers = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+    private volatile Long currentUserId;
+    private volatile long currentUserDeletedTasks;
+
+    /**
+     * Constructs a new UserPurger, registers its metrics and, if the purge is enabled, schedules its runs.
+     *
+     * @param userRepository     the user repository
+     * @param taskRepository     the task repository
+     * @param cacheManager       the cache manager holding the task cache
+     * @param taskOwnershipIndex the task ownership index
+     * @param userProperties     the user properties holding the purge settings
+     * @param meterRegistry      the registry the purge metrics are registered in
+     */
+    public UserPurger(UserRepository userRepository, TaskRepository taskRepository, CacheManager cacheManager,
+                      TaskOwnershipIndex taskOwnershipIndex, UserProperties userProperties,
+                      MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.cacheManager = cacheManager;
+        this.taskOwnershipIndex = taskOwnershipIndex;
+        this.purgeProperties = userProperties.getPurge();
+        this.deletedTasks = Counter.builder(ROWS_COUNTER)
+                .description("Rows deleted by the purge of deleted users")
+                .tag("table", "tasks")
+                .register(meterRegistry);
+        this.deletedAssignments = Counter.builder(ROWS_COUNTER)
+                .description("Rows deleted by the purge of deleted users")
+                .tag("table", "users_tasks")
+                .register(meterRegistry);
+        this.purgedUsers = Counter.builder("tasklist.users.purge.users")
+                .description("Deleted users whose data has been purged")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("tasklist.users.purge.chunk")
+                .description("Time taken by one chunk of the purge of deleted users")
+                .register(meterRegistry);
+        Gauge.builder("tasklist.users.purge.pending", pendingUsers, AtomicLong::get)
+                .description("Users marked deleted and not purged yet, as of the last run")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("userPurge-"));
+        if (purgeProperties.isEnabled()) {
+            long interval = purgeProperties.getInterval().toMillis();
+            this.scheduler.scheduleWithFixedDelay(this::purge, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the progress of the purge as seen by this node.
+     *
+     * @return the purge progress
+     */
+    public UserPurgeProgress getProgress() {
+        UserPurgeProgress progress = new UserPurgeProgress();
+        progress.setEnabled(purgeProperties.isEnabled());
+        progress.setPendingUsers(pendingUsers.get());
+        Long userId = currentUserId;
+        progress.setCurrentUserId(userId);
+        progress.setCurrentUserDeletedTasks(userId == null ? 0 : currentUserDeletedTasks);
+        progress.setPurgedUsers((long) purgedUsers.count());
+        progress.setDeletedTasks((long) deletedTasks.count());
+        progress.setDeletedAssignments((long) deletedAssignments.count());
+        return progress;
+    }
+
+    /**
+     * Purges the users marked deleted, the earliest marked first, at most one chunk size of users per run.
+     */
+    private void purge() {
+        try {
+            pendingUsers.set(userRepository.countDeleted());
+            for (Long userId : userRepository.findDeletedIds(purgeProperties.getChunkSize())) {
+                purgeUser(userId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("User purge failed, resuming on the next run", e);
+        } finally {
+            currentUserId = null;
+        }
+    }
+
+    /**
+     * Deletes the user's tasks chunk by chunk, then the user's remaining assignments, then the user if nothing
+     * of the user's is left.
+     *
+     * @param userId the ID of the user marked deleted
+     * @throws InterruptedException if the purger is stopped while pausing between chunks
+     */
+    private void purgeUser(Long userId) throws InterruptedException {
+        long start = System.nanoTime();
+        int chunkSize = purgeProperties.getChunkSize();
+        currentUserDeletedTasks = 0;
+        currentUserId = userId;
+        Cache tasksCache = cacheManager.getCache(CachingConfig.TASKS_CACHE);
+        while (true) {
+            List<Long> taskIds = chunkTimer.record(() -> taskRepository.deleteChunkByOwnerId(userId, chunkSize));
+            deletedTasks.increment(taskIds.size());
+            currentUserDeletedTasks += taskIds.size();
+            if (tasksCache != null) {
+                taskIds.forEach(tasksCache::evict);
+            }
+            if (taskIds.isEmpty()) {
+                break;
+            }
+            pause();
+        }
+        while (true) {
+            int assignments = chunkTimer.record(() -> taskRepository.deleteAssignmentChunkByUserId(userId, chunkSize));
+            deletedAssignments.increment(assignments);
+            if (assignments == 0) {
+                break;
+            }
+            pause();
+        }
+        taskOwnershipIndex.invalidate(userId);
+        if (!userRepository.delete(userId)) {
+            log.info("Deleted user {} still has tasks or assignments locked by other transactions, "
+                    + "retrying on the next run", userId);
+            return;
+        }
+        purgedUsers.increment();
+        pendingUsers.updateAndGet(pending -> Math.max(pending - 1, 0));
+        log.info("Purged deleted user {}: {} tasks in {} ms", userId, currentUserDeletedTasks,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Waits for the pause between chunks.
+     *
+     * @throws InterruptedException if the purger is stopped while waiting
+     */
+    private void pause() throws InterruptedException {
+        Thread.sleep(purgeProperties.getChunkPause().toMillis());
+    }
+
+    /**
+     * Stops purging; a user being purged is resumed by the next run after a restart.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -9,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Set;
@@ -23,10 +25,12 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final TaskOwnershipIndex taskOwnershipIndex;
+    private final ActiveUserIndex activeUserIndex;
     private final PasswordEncoder passwordEncoder;
 
     /**
-     * Retrieves a user by their ID.
+     * Retrieves a user by their ID, loading only the user's principal data and roles.
      *
      * @param id the ID of the user to retrieve
      * @return the user with the specified ID
@@ -35,12 +39,26 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public User getById(Long id) {
+        return userRepository.findPrincipalById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    /**
+     * Retrieves a user by their ID together with all of the user's tasks.
+     *
+     * @param id the ID of the user to retrieve
+     * @return the user with the specified ID and their tasks
+     * @throws ResourceNotFoundException if the user with the given ID is not found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public User getWithTasksById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
     /**
-     * Retrieves a user by their username.
+     * Retrieves a user by their username, loading only the user's principal data and roles.
      *
      * @param username the username of the user to retrieve
      * @return the user with the specified username
@@ -49,7 +67,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public User getByUsername(String username) {
-        return userRepository.findByUsername(username)
+        return userRepository.findPrincipalByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found."));
     }
 
@@ -69,6 +87,7 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Creates a new user with the provided information, checking for duplicate username and password confirmation.
+     * A username stays taken by a deleted user until the user is purged.
      * Encodes the password before storage and assigns the 'ROLE_USER' role.
      *
      * @param user the user to be created
@@ -78,7 +97,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public User create(User user) {
-        if (userRepository.findByUsername(user.getUsername()).isPresent()) {
+        if (userRepository.existsByUsername(user.getUsername())) {
             throw new IllegalStateException("User already exists.");
         }
         if (!user.getPassword().equals(user.getPasswordConfirmation())) {
@@ -92,6 +111,18 @@ public class UserServiceImpl implements UserService {
         return user;
     }
 
+    /**
+     * Replaces the stored password hash of a user.
+     *
+     * @param id              the ID of the user
+     * @param encodedPassword the new password hash
+     */
+    @Override
+    @Transactional
+    public void updatePassword(Long id, String encodedPassword) {
+        userRepository.updatePassword(id, encodedPassword);
+    }
+
     /**
      * Checks if a user is the owner of a specific task.
      *
@@ -100,19 +131,45 @@ public class UserServiceImpl implements UserService {
      * @return true if the user is the owner of the task, false otherwise
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public boolean isTaskOwner(Long userId, Long taskId) {
         return userRepository.isTaskOwner(userId, taskId);
     }
 
     /**
-     * Deletes a user based on their ID.
+     * Deletes a user based on their ID by marking the user deleted, which hides the user from reads at once.
+     * The user's tasks, assignments and roles are removed afterwards by the UserPurger in small chunks,
+     * so deleting a user with many tasks does not run as one long transaction. Once the mark is committed,
+     * the user is dropped from the task ownership index and recorded as deleted in the active user index,
+     * so the user's tokens stop working; a rolled back deletion leaves both indexes alone.
      *
      * @param id the ID of the user to be deleted
      */
     @Override
     @Transactional
     public void delete(Long id) {
-        userRepository.delete(id);
+        userRepository.markDeleted(id);
+        afterCommit(() -> {
+            taskOwnershipIndex.invalidate(id);
+            activeUserIndex.markDeleted(id);
+        });
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or at once if no transaction synchronization is active.
+     *
+     * @param action the action to run
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
\ No newline at end of file
@@ -17,4 +17,23 @@ public class JwtProperties {
     private String secret;
     private long access;
     private long refresh;
+    private AuthenticationMode authentication = AuthenticationMode.DATABASE;
+    private VerificationCache verificationCache = new VerificationCache();
+
+    /**
+     * AuthenticationMode enum represents how the authentication of a request is built from its access token:
+     * 'DATABASE' loads the user on every request, 'CLAIMS' trusts the id and roles claims of the verified token.
+     */
+    public enum AuthenticationMode {
+        DATABASE, CLAIMS
+    }
+
+    /**
+     * VerificationCache class represents the settings of the cache of verified tokens.
+     */
+    @Data
+    public static class VerificationCache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+    }
 }
\ No newline at end of file
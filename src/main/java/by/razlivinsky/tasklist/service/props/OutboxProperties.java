@@ -0,0 +1,33 @@
+package by.razlivinsky.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OutboxProperties class represents the properties of the task outbox relay and of its default file sink.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasklist.outbox")
+public class OutboxProperties {
+    private boolean enabled = true;
+    private int batchSize = 500;
+    private Duration pollInterval = Duration.ofMillis(200);
+    private Duration retryDelay = Duration.ofSeconds(5);
+    private File file = new File();
+
+    /**
+     * File class represents the settings of the sink appending the task changes to a local NDJSON file.
+     */
+    @Data
+    public static class File {
+        private String path = "outbox/task-events.ndjson";
+        private boolean sync = true;
+    }
+}
@@ -0,0 +1,45 @@
+package by.razlivinsky.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * PasswordProperties class represents the properties related to password hashing and to the pool verifying
+ * password hashes.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+@Data
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordProperties {
+    private int verifierThreads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 200;
+    private Duration queueTimeout = Duration.ofSeconds(2);
+    private EncoderMode encoder = EncoderMode.FIXED;
+    private int strength = 10;
+    private Calibration calibration = new Calibration();
+
+    /**
+     * EncoderMode enum represents how the BCrypt work factor of new hashes is chosen:
+     * 'FIXED' uses the configured strength, 'CALIBRATING' measures the host at startup and uses the strongest
+     * work factor whose hash time fits the latency budget.
+     */
+    public enum EncoderMode {
+        FIXED, CALIBRATING
+    }
+
+    /**
+     * Calibration class represents the settings of the startup calibration of the BCrypt work factor.
+     */
+    @Data
+    public static class Calibration {
+        private Duration latencyBudget = Duration.ofMillis(50);
+        private int minStrength = 10;
+        private int maxStrength = 16;
+    }
+}
@@ -0,0 +1,27 @@
+package by.razlivinsky.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * ReplicaProperties class represents the properties related to the read replica that read-only transactions are
+ * routed to. The Hikari settings of the replica pool are bound from tasklist.datasource.replica.hikari.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasklist.datasource.replica")
+public class ReplicaProperties {
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+}
@@ -0,0 +1,53 @@
+package by.razlivinsky.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * RepositoryProperties class represents the properties related to the repository layer: the engine executing
+ * its statements, the metrics of its statements and the recording of slow statements.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasklist.repository")
+public class RepositoryProperties {
+    private Engine engine = Engine.MYBATIS;
+    private Metrics metrics = new Metrics();
+    private SlowQueries slowQueries = new SlowQueries();
+
+    /**
+     * Engine enum represents the implementations of the repositories: the MyBatis mappers or the JDBC repositories.
+     * Statement metrics and slow query recording cover the MyBatis mappers only.
+     */
+    public enum Engine {
+        MYBATIS, JDBC
+    }
+
+    /**
+     * Metrics class represents the settings of the per-statement metrics and of the per-request query budget.
+     */
+    @Data
+    public static class Metrics {
+        private boolean enabled = true;
+        private int queryBudget = 10;
+        private int overBudgetHistory = 100;
+    }
+
+    /**
+     * SlowQueries class represents the settings of the recorder of slow task and user statements.
+     * Statements are timed by the statement metrics, so nothing is recorded while those are disabled.
+     */
+    @Data
+    public static class SlowQueries {
+        private boolean enabled = false;
+        private Duration threshold = Duration.ofMillis(500);
+        private int capacity = 100;
+        private int explainQueueCapacity = 20;
+    }
+}
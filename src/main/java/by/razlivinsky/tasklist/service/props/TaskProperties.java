@@ -0,0 +1,68 @@
+package by.razlivinsky.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * TaskProperties class represents the properties related to task reading and writing limits, the task cache, the task ownership index, CSV task import and the task change stream.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasklist.tasks")
+public class TaskProperties {
+    private int pageSize = 50;
+    private int maxPageSize = 500;
+    private int maxBatchSize = 1000;
+    private Cache cache = new Cache();
+    private OwnershipIndex ownershipIndex = new OwnershipIndex();
+    private CsvImport csvImport = new CsvImport();
+    private Stream stream = new Stream();
+
+    /**
+     * Cache class represents the settings of the cache of tasks read by ID.
+     */
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+
+    /**
+     * OwnershipIndex class represents the settings of the in-memory index of task IDs owned by each user.
+     */
+    @Data
+    public static class OwnershipIndex {
+        private long maximumSize = 10_000;
+        private Duration expireAfterAccess = Duration.ofMinutes(30);
+    }
+
+    /**
+     * CsvImport class represents the settings of CSV task import.
+     */
+    @Data
+    public static class CsvImport {
+        private int maxReportedRejections = 100;
+    }
+
+    /**
+     * Stream class represents the settings of the stream of task changes pushed to subscribers over SSE.
+     */
+    @Data
+    public static class Stream {
+        private boolean enabled = true;
+        private int maxSubscribers = 10_000;
+        private int queueCapacity = 64;
+        private int senderThreads = 4;
+        private Duration sendTimeout = Duration.ofSeconds(10);
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+        private Duration timeout = Duration.ofMinutes(30);
+        private Duration reconnectDelay = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,41 @@
+package by.razlivinsky.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * UserProperties class represents the properties related to users: the check of deleted users and their purge.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasklist.users")
+public class UserProperties {
+    private ActiveIndex activeIndex = new ActiveIndex();
+    private Purge purge = new Purge();
+
+    /**
+     * ActiveIndex class represents the settings of the in-memory index telling whether a user is marked deleted.
+     */
+    @Data
+    public static class ActiveIndex {
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Purge class represents the settings of the background purge removing the data of users marked deleted.
+     */
+    @Data
+    public static class Purge {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofSeconds(30);
+        private int chunkSize = 1000;
+        private Duration chunkPause = Duration.ofMillis(100);
+    }
+}
@@ -0,0 +1,98 @@
+package by.razlivinsky.tasklist.web.controller;
+
+import by.razlivinsky.tasklist.domain.task.Status;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskExportFormat;
+import by.razlivinsky.tasklist.domain.user.UserPurgeProgress;
+import by.razlivinsky.tasklist.repository.metrics.SlowQuery;
+import by.razlivinsky.tasklist.repository.metrics.SlowQueryRecorder;
+import by.razlivinsky.tasklist.service.impl.UserPurger;
+import by.razlivinsky.tasklist.web.stream.TaskExportWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AdminController class handles HTTP requests of the operational endpoints available to administrators.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Admin Controller", description = "Admin API")
+public class AdminController {
+    private final SlowQueryRecorder slowQueryRecorder;
+    private final TaskExportWriter taskExportWriter;
+    private final UserPurger userPurger;
+
+    /**
+     * Get the latest executions of task and user statements that exceeded the slow query threshold,
+     * with their plans once collected. The list is empty while slow query recording is disabled.
+     *
+     * @return the slow executions, the newest first
+     */
+    @GetMapping("/slow-queries")
+    @Operation(summary = "Get slow queries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<SlowQuery> getSlowQueries() {
+        return slowQueryRecorder.getSlowQueries();
+    }
+
+    /**
+     * Export all tasks that match the filters, streamed from the database straight into the response.
+     *
+     * @param format      the format of the export, CSV with a header or NDJSON
+     * @param owners      whether to include the ID of the user each task is associated with
+     * @param status      the status the tasks must have
+     * @param expiresFrom the inclusive lower bound of the expiration date
+     * @param expiresTo   the exclusive upper bound of the expiration date
+     * @param gzip        whether to compress the export with gzip
+     * @param response    the HTTP response to write the export to
+     * @throws IOException if writing to the response fails
+     */
+    @GetMapping("/tasks/export")
+    @Operation(summary = "Export tasks")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportTasks(@RequestParam(defaultValue = "CSV") TaskExportFormat format,
+                            @RequestParam(defaultValue = "false") boolean owners,
+                            @RequestParam(required = false) Status status,
+                            @RequestParam(required = false)
+                            @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime expiresFrom,
+                            @RequestParam(required = false)
+                            @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime expiresTo,
+                            @RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        TaskCriteria criteria = new TaskCriteria();
+        criteria.setStatus(status);
+        criteria.setExpiresFrom(expiresFrom);
+        criteria.setExpiresTo(expiresTo);
+        taskExportWriter.write(criteria, owners, format, gzip, response);
+    }
+
+    /**
+     * Get the progress of the background purge of deleted users on this node.
+     *
+     * @return the number of users awaiting the purge, the user being purged and the rows deleted so far
+     */
+    @GetMapping("/users/purge")
+    @Operation(summary = "Get user purge progress")
+    @PreAuthorize("hasRole('ADMIN')")
+    public UserPurgeProgress getUserPurgeProgress() {
+        return userPurger.getProgress();
+    }
+}
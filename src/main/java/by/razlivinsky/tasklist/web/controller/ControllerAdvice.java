@@ -4,8 +4,10 @@ import by.razlivinsky.tasklist.domain.exception.AccessDeniedException;
 import by.razlivinsky.tasklist.domain.exception.ExceptionBody;
 import by.razlivinsky.tasklist.domain.exception.ResourceMappingException;
 import by.razlivinsky.tasklist.domain.exception.ResourceNotFoundException;
+import by.razlivinsky.tasklist.domain.exception.ServiceUnavailableException;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -70,6 +72,30 @@ public class ControllerAdvice {
         return new ExceptionBody("Access. denied.");
     }
 
+    /**
+     * Handle Authentication Exception and return an ExceptionBody.
+     *
+     * @param e the AuthenticationException
+     * @return the ExceptionBody containing the error message
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public ExceptionBody handleAuthentication(AuthenticationException e) {
+        return new ExceptionBody("Authentication failed.");
+    }
+
+    /**
+     * Handle Service Unavailable Exception and return an ExceptionBody.
+     *
+     * @param e the ServiceUnavailableException
+     * @return the ExceptionBody containing the error message
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ExceptionBody handleServiceUnavailable(ServiceUnavailableException e) {
+        return new ExceptionBody(e.getMessage());
+    }
+
     /**
      * Handle Method Argument Not Valid Exception and return an ExceptionBody with validation errors.
      *
@@ -1,16 +1,23 @@
 package by.razlivinsky.tasklist.web.controller;
 
 import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskField;
 import by.razlivinsky.tasklist.service.TaskService;
 import by.razlivinsky.tasklist.web.dto.task.TaskDto;
+import by.razlivinsky.tasklist.web.dto.task.TaskDtoFilters;
 import by.razlivinsky.tasklist.web.dto.validation.OnUpdate;
 import by.razlivinsky.tasklist.web.mappers.TaskMapper;
+import by.razlivinsky.tasklist.web.security.expression.CustomSecurityExpression;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 /**
  * TaskController class handles HTTP requests related to task operations.
  *
@@ -25,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
     private final TaskService taskService;
     private final TaskMapper taskMapper;
+    private final CustomSecurityExpression customSecurityExpression;
 
     /**
      * Update an existing task based on the provided TaskDto.
@@ -34,23 +42,30 @@ public class TaskController {
      */
     @PutMapping
     @Operation(summary = "Update task")
+    @PreAuthorize("@customSecurityExpression.canAccessTask(#dto.id)")
     public TaskDto update(@Validated(OnUpdate.class) @RequestBody TaskDto dto) {
         Task task = taskMapper.toEntity(dto);
-        Task updateTask = taskService.update(task);
+        Task updateTask = taskService.update(task, customSecurityExpression.taskOwnerId(task.getId()));
         return taskMapper.toDto(updateTask);
     }
 
     /**
-     * Get task by ID.
+     * Get task by ID. The task is read whole through the task cache, and only the requested fields are returned.
      *
-     * @param id the ID of the task to retrieve
-     * @return the TaskDto for the specified task ID
+     * @param id     the ID of the task to retrieve
+     * @param fields the task fields to return; all fields if absent
+     * @return the TaskDto for the specified task ID, filtered to the requested fields
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get taskDto by id")
-    public TaskDto getById(@PathVariable Long id) {
-        Task task = taskService.getById(id);
-        return taskMapper.toDto(task);
+    @PreAuthorize("@customSecurityExpression.canAccessTask(#id)")
+    public MappingJacksonValue getById(@PathVariable Long id,
+                                       @RequestParam(required = false) Set<String> fields) {
+        Set<TaskField> taskFields = TaskField.fromPropertyNames(fields);
+        Task task = taskService.getById(id, customSecurityExpression.taskOwnerId(id));
+        MappingJacksonValue body = new MappingJacksonValue(taskMapper.toDto(task));
+        body.setFilters(TaskDtoFilters.of(taskFields));
+        return body;
     }
 
     /**
@@ -60,7 +75,8 @@ public class TaskController {
      */
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete task")
+    @PreAuthorize("@customSecurityExpression.canAccessTask(#id)")
     public void deleteById(@PathVariable Long id) {
-        taskService.delete(id);
+        taskService.delete(id, customSecurityExpression.taskOwnerId(id));
     }
 }
\ No newline at end of file
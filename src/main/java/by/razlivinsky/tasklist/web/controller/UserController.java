@@ -1,22 +1,45 @@
 package by.razlivinsky.tasklist.web.controller;
 
+import by.razlivinsky.tasklist.domain.task.Status;
 import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskField;
+import by.razlivinsky.tasklist.domain.task.TaskPage;
+import by.razlivinsky.tasklist.domain.task.TaskSort;
 import by.razlivinsky.tasklist.domain.user.User;
 import by.razlivinsky.tasklist.service.TaskService;
 import by.razlivinsky.tasklist.service.UserService;
 import by.razlivinsky.tasklist.web.dto.task.TaskDto;
+import by.razlivinsky.tasklist.web.dto.task.TaskDtoFilters;
+import by.razlivinsky.tasklist.web.dto.task.TaskImportDto;
 import by.razlivinsky.tasklist.web.dto.user.UserDto;
 import by.razlivinsky.tasklist.web.dto.validation.OnCreate;
 import by.razlivinsky.tasklist.web.dto.validation.OnUpdate;
 import by.razlivinsky.tasklist.web.mappers.TaskMapper;
 import by.razlivinsky.tasklist.web.mappers.UserMapper;
+import by.razlivinsky.tasklist.web.stream.TaskCsvImporter;
+import by.razlivinsky.tasklist.web.stream.TaskEventDispatcher;
+import by.razlivinsky.tasklist.web.stream.TaskStreamWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 /**
  * UserController class handles HTTP requests related to user operations.
@@ -30,11 +53,18 @@ import java.util.List;
 @Validated
 @Tag(name = "User Controller", description = "User API")
 public class UserController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String EXPAND_TASKS = "tasks";
+    private static final Set<String> EXPANDABLE = Set.of(EXPAND_TASKS);
+
     private final UserService userService;
     private final TaskService taskService;
 
     private final UserMapper userMapper;
     private final TaskMapper taskMapper;
+    private final TaskStreamWriter taskStreamWriter;
+    private final TaskCsvImporter taskCsvImporter;
+    private final TaskEventDispatcher taskEventDispatcher;
 
     /**
      * Update an existing user based on the provided UserDto.
@@ -44,6 +74,7 @@ public class UserController {
      */
     @PutMapping
     @Operation(summary = "Update user")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#dto.id)")
     public UserDto update(@Validated(OnUpdate.class) @RequestBody UserDto dto) {
         User user = userMapper.toEntity(dto);
         User updatedUser = userService.update(user);
@@ -51,15 +82,24 @@ public class UserController {
     }
 
     /**
-     * Get user by ID.
+     * Get user by ID. The user's tasks are loaded and returned only when expanded with expand=tasks.
      *
-     * @param id the ID of the user to retrieve
+     * @param id     the ID of the user to retrieve
+     * @param expand the relations to expand; only 'tasks' is supported
      * @return the UserDto for the specified user ID
+     * @throws IllegalStateException if an unsupported relation is requested
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get userDto by id")
-    public UserDto getById(@PathVariable Long id) {
-        User user = userService.getById(id);
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public UserDto getById(@PathVariable Long id,
+                           @RequestParam(required = false) Set<String> expand) {
+        if (expand != null && !EXPANDABLE.containsAll(expand)) {
+            throw new IllegalStateException("Only tasks can be expanded.");
+        }
+        User user = expand != null && expand.contains(EXPAND_TASKS)
+                ? userService.getWithTasksById(id)
+                : userService.getById(id);
         return userMapper.toDto(user);
     }
 
@@ -70,21 +110,118 @@ public class UserController {
      */
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete user by id")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
     public void deleteById(@PathVariable Long id) {
         userService.delete(id);
     }
 
     /**
-     * Retrieve tasks associated with a specific user by their ID.
+     * Retrieve one page of tasks associated with a specific user by their ID.
+     * The cursor of the next page, if any, is returned in the X-Next-Cursor header.
      *
-     * @param id the ID of the user for whom tasks are to be retrieved
-     * @return a list of TaskDto objects associated with the specified user
+     * @param id          the ID of the user for whom tasks are to be retrieved
+     * @param cursor      the opaque cursor returned with the previous page
+     * @param limit       the maximum number of tasks in the page
+     * @param status      the status the tasks must have
+     * @param expiresFrom the inclusive lower bound of the expiration date
+     * @param expiresTo   the exclusive upper bound of the expiration date
+     * @param sort        the order of the tasks, either by ID or by expiration date
+     * @param fields      the task fields to read and return; all fields if absent
+     * @return a page of TaskDto objects associated with the specified user
      */
     @GetMapping("/{id}/tasks")
-    @Operation(summary = "Get all user tasks")
-    public List<TaskDto> getTaskByUserId(@PathVariable Long id) {
-        List<Task> tasks = taskService.getAllByUserId(id);
-        return taskMapper.toDto(tasks);
+    @Operation(summary = "Get user tasks page")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public ResponseEntity<MappingJacksonValue> getTaskByUserId(@PathVariable Long id,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               @RequestParam(required = false) Status status,
+                                                               @RequestParam(required = false)
+                                                               @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime expiresFrom,
+                                                               @RequestParam(required = false)
+                                                               @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime expiresTo,
+                                                               @RequestParam(defaultValue = "ID") TaskSort sort,
+                                                               @RequestParam(required = false) Set<String> fields) {
+        TaskCriteria criteria = toCriteria(status, expiresFrom, expiresTo, fields);
+        criteria.setCursor(cursor);
+        criteria.setLimit(limit);
+        criteria.setSort(sort);
+        FilterProvider filters = TaskDtoFilters.of(criteria.getFields());
+        TaskPage page = taskService.getPageByUserId(id, criteria);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        MappingJacksonValue body = new MappingJacksonValue(taskMapper.toDto(page.getTasks()));
+        body.setFilters(filters);
+        return response.body(body);
+    }
+
+    /**
+     * Stream all tasks associated with a specific user as newline-delimited JSON.
+     * Tasks are written to the response as they are read, so memory use does not depend on the number of tasks.
+     *
+     * @param id          the ID of the user for whom tasks are to be streamed
+     * @param status      the status the tasks must have
+     * @param expiresFrom the inclusive lower bound of the expiration date
+     * @param expiresTo   the exclusive upper bound of the expiration date
+     * @param fields      the task fields to read and return; all fields if absent
+     * @param response    the HTTP response to write the tasks to
+     * @throws IOException if writing to the response fails
+     */
+    @GetMapping(value = "/{id}/tasks", produces = TaskStreamWriter.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all user tasks as NDJSON")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public void streamTasksAsNdjson(@PathVariable Long id,
+                                    @RequestParam(required = false) Status status,
+                                    @RequestParam(required = false)
+                                    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime expiresFrom,
+                                    @RequestParam(required = false)
+                                    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime expiresTo,
+                                    @RequestParam(required = false) Set<String> fields,
+                                    HttpServletResponse response) throws IOException {
+        taskStreamWriter.writeNdjson(id, toCriteria(status, expiresFrom, expiresTo, fields), response);
+    }
+
+    /**
+     * Stream all tasks associated with a specific user as a single JSON array.
+     * Tasks are written to the response as they are read, so memory use does not depend on the number of tasks.
+     *
+     * @param id          the ID of the user for whom tasks are to be streamed
+     * @param status      the status the tasks must have
+     * @param expiresFrom the inclusive lower bound of the expiration date
+     * @param expiresTo   the exclusive upper bound of the expiration date
+     * @param fields      the task fields to read and return; all fields if absent
+     * @param response    the HTTP response to write the tasks to
+     * @throws IOException if writing to the response fails
+     */
+    @GetMapping(value = "/{id}/tasks", params = "stream=true")
+    @Operation(summary = "Stream all user tasks as JSON")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public void streamTasksAsJson(@PathVariable Long id,
+                                  @RequestParam(required = false) Status status,
+                                  @RequestParam(required = false)
+                                  @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime expiresFrom,
+                                  @RequestParam(required = false)
+                                  @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime expiresTo,
+                                  @RequestParam(required = false) Set<String> fields,
+                                  HttpServletResponse response) throws IOException {
+        taskStreamWriter.writeJsonArray(id, toCriteria(status, expiresFrom, expiresTo, fields), response);
+    }
+
+    /**
+     * Subscribe to the changes of the tasks of a specific user as Server-Sent Events. Every committed creation,
+     * update and deletion is pushed as an event named CREATED, UPDATED or DELETED, and RELOAD asks the client
+     * to read all of the user's tasks again. Heartbeat comments are sent while nothing changes.
+     *
+     * @param id the ID of the user whose task changes are streamed
+     * @return the emitter of the event stream
+     */
+    @GetMapping(value = "/{id}/tasks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream changes of user tasks")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public SseEmitter streamTaskChanges(@PathVariable Long id) {
+        return taskEventDispatcher.subscribe(id);
     }
 
     /**
@@ -96,9 +233,63 @@ public class UserController {
      */
     @PostMapping("/{id}/tasks")
     @Operation(summary = "Add task to user")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
     public TaskDto createTask(@PathVariable Long id, @Validated(OnCreate.class) @RequestBody TaskDto dto) {
         Task task = taskMapper.toEntity(dto);
         Task createdTask = taskService.create(task, id);
         return taskMapper.toDto(createdTask);
     }
+
+    /**
+     * Create several new tasks associated with a specific user in one batch.
+     *
+     * @param id   the ID of the user for whom the tasks are created
+     * @param dtos the TaskDto objects containing the information of the tasks to be created
+     * @return the TaskDto objects of the created tasks, in the order they were sent
+     */
+    @PostMapping("/{id}/tasks/batch")
+    @Operation(summary = "Add tasks to user in one batch")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    @Validated(OnCreate.class)
+    public List<TaskDto> createTasks(@PathVariable Long id, @RequestBody List<@Valid TaskDto> dtos) {
+        List<Task> tasks = taskMapper.toEntity(dtos);
+        List<Task> createdTasks = taskService.createAll(tasks, id);
+        return taskMapper.toDto(createdTasks);
+    }
+
+    /**
+     * Import tasks for a specific user from a CSV request body with a title, description and expirationDate header.
+     * Rows are validated like TaskDto objects on creation; the valid ones are created in one transaction and the
+     * invalid ones are skipped. The body is processed as it is received, so memory use does not depend on its size.
+     *
+     * @param id      the ID of the user for whom the tasks are created
+     * @param request the HTTP request carrying the CSV
+     * @return the numbers of created tasks and rejected rows, with the first rejected rows
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/{id}/tasks/import", consumes = TaskCsvImporter.TEXT_CSV_VALUE)
+    @Operation(summary = "Import user tasks from CSV")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public TaskImportDto importTasks(@PathVariable Long id, HttpServletRequest request) throws IOException {
+        return taskCsvImporter.importCsv(id, request);
+    }
+
+    /**
+     * Builds task criteria from the filter and fieldset request parameters.
+     *
+     * @param status      the status the tasks must have
+     * @param expiresFrom the inclusive lower bound of the expiration date
+     * @param expiresTo   the exclusive upper bound of the expiration date
+     * @param fields      the requested task fields, or null for all fields
+     * @return the task criteria holding the filters and the sparse fieldset
+     */
+    private TaskCriteria toCriteria(Status status, LocalDateTime expiresFrom, LocalDateTime expiresTo,
+                                    Set<String> fields) {
+        TaskCriteria criteria = new TaskCriteria();
+        criteria.setStatus(status);
+        criteria.setExpiresFrom(expiresFrom);
+        criteria.setExpiresTo(expiresTo);
+        criteria.setFields(TaskField.fromPropertyNames(fields));
+        return criteria;
+    }
 }
\ No newline at end of file
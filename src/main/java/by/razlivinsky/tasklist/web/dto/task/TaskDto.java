@@ -3,6 +3,7 @@ package by.razlivinsky.tasklist.web.dto.task;
 import by.razlivinsky.tasklist.domain.task.Status;
 import by.razlivinsky.tasklist.web.dto.validation.OnCreate;
 import by.razlivinsky.tasklist.web.dto.validation.OnUpdate;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -20,6 +21,7 @@ import java.time.LocalDateTime;
  */
 @Data
 @Schema(description = "Task DTO")
+@JsonFilter(TaskDtoFilters.FILTER_ID)
 public class TaskDto {
     @Schema(description = "Task Id", example = "1")
     @NotNull(message = "Id must be not null.", groups = OnUpdate.class)
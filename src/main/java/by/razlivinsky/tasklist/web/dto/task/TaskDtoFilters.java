@@ -0,0 +1,37 @@
+package by.razlivinsky.tasklist.web.dto.task;
+
+import by.razlivinsky.tasklist.domain.task.TaskField;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * TaskDtoFilters class builds the Jackson property filters applying a sparse fieldset to serialized TaskDto objects.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public final class TaskDtoFilters {
+    public static final String FILTER_ID = "taskFields";
+
+    private TaskDtoFilters() {
+    }
+
+    /**
+     * Creates a filter provider serializing only the given fields of a TaskDto.
+     *
+     * @param fields the sparse fieldset, or null to serialize all fields
+     * @return the filter provider for the fieldset
+     */
+    public static FilterProvider of(Set<TaskField> fields) {
+        SimpleBeanPropertyFilter filter = fields == null
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields.stream()
+                        .map(TaskField::getPropertyName)
+                        .collect(Collectors.toSet()));
+        return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+    }
+}
@@ -0,0 +1,38 @@
+package by.razlivinsky.tasklist.web.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TaskImportDto class represents the data transfer object for the outcome of a CSV task import.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+@Schema(description = "Task import DTO")
+public class TaskImportDto {
+    @Schema(description = "Number of tasks created", example = "998")
+    private long inserted;
+
+    @Schema(description = "Number of rows rejected", example = "2")
+    private long rejected;
+
+    @Schema(description = "The first rejected rows with the reasons of their rejection")
+    private List<Rejection> rejections = new ArrayList<>();
+
+    /**
+     * Rejection class represents a rejected row of the CSV file.
+     */
+    @Data
+    public static class Rejection {
+        @Schema(description = "Line of the CSV file the row starts on", example = "42")
+        private long line;
+
+        @Schema(description = "Reasons of the rejection", example = "[\"Title must be not null.\"]")
+        private List<String> errors;
+    }
+}
@@ -1,13 +1,17 @@
 package by.razlivinsky.tasklist.web.dto.user;
 
+import by.razlivinsky.tasklist.web.dto.task.TaskDto;
 import by.razlivinsky.tasklist.web.dto.validation.OnCreate;
 import by.razlivinsky.tasklist.web.dto.validation.OnUpdate;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.hibernate.validator.constraints.Length;
 
+import java.util.List;
+
 /**
  * UserDto class represents the data transfer object for users, containing user-related information.
  *
@@ -40,4 +44,9 @@ public class UserDto {
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @NotNull(message = "Password confirmation must be not null.", groups = {OnCreate.class, OnUpdate.class})
     private String passwordConfirmation;
+
+    @Schema(description = "User tasks, present only when expanded")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TaskDto> tasks;
 }
\ No newline at end of file
@@ -37,4 +37,12 @@ public interface TaskMapper {
      * @return the task
      */
     Task toEntity(TaskDto dto);
+
+    /**
+     * To entity list.
+     *
+     * @param dtos the dtos
+     * @return the list
+     */
+    List<Task> toEntity(List<TaskDto> dtos);
 }
\ No newline at end of file
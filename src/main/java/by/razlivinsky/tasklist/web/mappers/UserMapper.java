@@ -10,7 +10,7 @@ import org.mapstruct.Mapper;
  * @author razlivinsky
  * @since 09.03.2024
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = TaskMapper.class)
 public interface UserMapper {
     /**
      * To dto user dto.
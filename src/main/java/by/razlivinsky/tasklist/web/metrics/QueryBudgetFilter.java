@@ -0,0 +1,152 @@
+package by.razlivinsky.tasklist.web.metrics;
+
+import by.razlivinsky.tasklist.repository.metrics.RequestStatementCounter;
+import by.razlivinsky.tasklist.service.props.RepositoryProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * QueryBudgetFilter class counts the mapped statements executed while handling each request, records the count
+ * per endpoint and flags the requests executing more statements than the query budget, which usually reveals
+ * an N+1 pattern. Flagged requests are logged and the latest of them are kept for the statements endpoint.
+ * Statements executed outside the request thread, such as by streamed responses, are not counted.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "tasklist.repository.metrics", name = "enabled", matchIfMissing = true)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_SUMMARY = "http.server.requests.statements";
+    public static final String OVER_BUDGET_SUMMARY = "http.server.requests.statements.over.budget";
+
+    private final MeterRegistry meterRegistry;
+    private final int queryBudget;
+    private final int historySize;
+    private final Deque<OverBudgetRequest> overBudgetRequests = new ArrayDeque<>();
+
+    /**
+     * Constructs a new QueryBudgetFilter.
+     *
+     * @param meterRegistry        the registry the per-request statement counts are recorded in
+     * @param repositoryProperties the repository properties holding the query budget
+     */
+    public QueryBudgetFilter(MeterRegistry meterRegistry, RepositoryProperties repositoryProperties) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudget = repositoryProperties.getMetrics().getQueryBudget();
+        this.historySize = repositoryProperties.getMetrics().getOverBudgetHistory();
+    }
+
+    /**
+     * Handles the request while counting its statements, then records the count and flags the request
+     * if the count exceeds the query budget.
+     *
+     * @param request     the request to process
+     * @param response    the response to process
+     * @param filterChain the filter chain for invoking the next filter
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Map<String, Integer> counts = RequestStatementCounter.end();
+            int statements = counts.values().stream()
+                    .mapToInt(Integer::intValue)
+                    .sum();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            DistributionSummary.builder(STATEMENTS_SUMMARY)
+                    .description("Mapped statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            if (statements > queryBudget) {
+                flag(new OverBudgetRequest(Instant.now(), request.getMethod(), uri, request.getRequestURI(),
+                        statements, counts));
+            }
+        }
+    }
+
+    /**
+     * Returns the latest requests that exceeded the query budget, the newest first.
+     *
+     * @return the flagged requests
+     */
+    public List<OverBudgetRequest> getOverBudgetRequests() {
+        synchronized (overBudgetRequests) {
+            return new ArrayList<>(overBudgetRequests);
+        }
+    }
+
+    /**
+     * Returns the number of statements a request may execute before it is flagged.
+     *
+     * @return the query budget
+     */
+    public int getQueryBudget() {
+        return queryBudget;
+    }
+
+    /**
+     * Logs the request, counts it per endpoint and keeps it among the latest flagged requests.
+     *
+     * @param request the request that exceeded the query budget
+     */
+    private void flag(OverBudgetRequest request) {
+        log.warn("{} {} executed {} statements, over the budget of {}: {}",
+                request.method(), request.path(), request.statements(), queryBudget, request.statementCounts());
+        DistributionSummary.builder(OVER_BUDGET_SUMMARY)
+                .description("Mapped statements executed by requests over the query budget")
+                .tag("method", request.method())
+                .tag("uri", request.uri())
+                .register(meterRegistry)
+                .record(request.statements());
+        synchronized (overBudgetRequests) {
+            overBudgetRequests.addFirst(request);
+            while (overBudgetRequests.size() > historySize) {
+                overBudgetRequests.removeLast();
+            }
+        }
+    }
+
+    /**
+     * OverBudgetRequest record describes a request that executed more statements than the query budget.
+     *
+     * @param at              the time the request completed
+     * @param method          the HTTP method of the request
+     * @param uri             the URI pattern of the handling endpoint
+     * @param path            the requested path
+     * @param statements      the number of statements executed
+     * @param statementCounts the number of executions of each statement
+     */
+    public record OverBudgetRequest(Instant at, String method, String uri, String path, int statements,
+                                    Map<String, Integer> statementCounts) {
+    }
+}
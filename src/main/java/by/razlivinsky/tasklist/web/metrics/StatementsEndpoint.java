@@ -0,0 +1,127 @@
+package by.razlivinsky.tasklist.web.metrics;
+
+import by.razlivinsky.tasklist.repository.metrics.StatementMetricsInterceptor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * StatementsEndpoint class is the /actuator/statements endpoint summarizing, per mapped statement, how often it runs,
+ * the database time it takes and the rows it returns and fetches, ordered by total time, together with the latest
+ * requests that exceeded the query budget.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+@Endpoint(id = "statements")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "tasklist.repository.metrics", name = "enabled", matchIfMissing = true)
+public class StatementsEndpoint {
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetFilter queryBudgetFilter;
+
+    /**
+     * Returns the statement summaries and the latest requests over the query budget.
+     *
+     * @return the statements report
+     */
+    @ReadOperation
+    public StatementsReport statements() {
+        Map<String, List<Timer>> timers = meterRegistry.find(StatementMetricsInterceptor.STATEMENT_TIMER)
+                .timers()
+                .stream()
+                .collect(Collectors.groupingBy(timer -> timer.getId().getTag(StatementMetricsInterceptor.STATEMENT_TAG)));
+        List<StatementSummary> statements = timers.entrySet().stream()
+                .map(entry -> summarize(entry.getKey(), entry.getValue()))
+                .filter(summary -> summary.count() > 0)
+                .sorted(Comparator.comparingDouble(StatementSummary::totalTimeMs).reversed())
+                .toList();
+        return new StatementsReport(queryBudgetFilter.getQueryBudget(), statements,
+                queryBudgetFilter.getOverBudgetRequests());
+    }
+
+    /**
+     * Summarizes the executions of one statement from its timers and row summaries.
+     *
+     * @param statement the short name of the statement
+     * @param timers    the timers of the statement, one per outcome
+     * @return the statement summary
+     */
+    private StatementSummary summarize(String statement, List<Timer> timers) {
+        long count = 0;
+        long errors = 0;
+        double totalTimeMs = 0;
+        double maxMs = 0;
+        String type = null;
+        for (Timer timer : timers) {
+            count += timer.count();
+            totalTimeMs += timer.totalTime(TimeUnit.MILLISECONDS);
+            maxMs = Math.max(maxMs, timer.max(TimeUnit.MILLISECONDS));
+            type = timer.getId().getTag("type");
+            if ("error".equals(timer.getId().getTag("outcome"))) {
+                errors += timer.count();
+            }
+        }
+        double rows = total(StatementMetricsInterceptor.ROWS_SUMMARY, statement);
+        double fetchedRows = total(StatementMetricsInterceptor.FETCHED_ROWS_SUMMARY, statement);
+        return new StatementSummary(statement, type, count, errors, totalTimeMs,
+                count == 0 ? 0 : totalTimeMs / count, maxMs, rows, fetchedRows,
+                rows == 0 ? 0 : fetchedRows / rows);
+    }
+
+    /**
+     * Returns the total recorded by the statement's summary of the given name.
+     *
+     * @param name      the name of the summary
+     * @param statement the short name of the statement
+     * @return the total amount, or 0 if the summary is absent
+     */
+    private double total(String name, String statement) {
+        DistributionSummary summary = meterRegistry.find(name)
+                .tag(StatementMetricsInterceptor.STATEMENT_TAG, statement)
+                .summary();
+        return summary == null ? 0 : summary.totalAmount();
+    }
+
+    /**
+     * StatementsReport record is the body of the statements endpoint.
+     *
+     * @param queryBudget        the number of statements a request may execute before it is flagged
+     * @param statements         the statement summaries, ordered by total time
+     * @param overBudgetRequests the latest requests over the query budget, the newest first
+     */
+    public record StatementsReport(int queryBudget, List<StatementSummary> statements,
+                                   List<QueryBudgetFilter.OverBudgetRequest> overBudgetRequests) {
+    }
+
+    /**
+     * StatementSummary record summarizes the executions of one mapped statement.
+     *
+     * @param statement          the short name of the statement
+     * @param type               the SQL command type of the statement
+     * @param count              the number of executions
+     * @param errors             the number of failed executions
+     * @param totalTimeMs        the total execution time in milliseconds
+     * @param meanTimeMs         the mean execution time in milliseconds
+     * @param maxTimeMs          the recent maximum execution time in milliseconds
+     * @param rows               the total rows returned or affected
+     * @param fetchedRows        the total rows fetched from the database
+     * @param fetchedPerReturned the rows fetched per row returned
+     */
+    public record StatementSummary(String statement, String type, long count, long errors, double totalTimeMs,
+                                   double meanTimeMs, double maxTimeMs, double rows, double fetchedRows,
+                                   double fetchedPerReturned) {
+    }
+}
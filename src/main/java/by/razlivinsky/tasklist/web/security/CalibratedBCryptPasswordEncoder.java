@@ -0,0 +1,100 @@
+package by.razlivinsky.tasklist.web.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * CalibratedBCryptPasswordEncoder class is a BCrypt password encoder with a known work factor, which asks for
+ * hashes of a lower work factor to be upgraded, and which can pick its work factor by measuring the host.
+ * Hashes of a higher work factor are kept, so nodes calibrated to different work factors do not keep rehashing
+ * each other's hashes, and the stored work factors only ever rise.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private final int strength;
+
+    /**
+     * Constructs a new CalibratedBCryptPasswordEncoder with the given work factor.
+     *
+     * @param strength the BCrypt work factor of new hashes
+     */
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Creates an encoder with the strongest work factor within the bounds whose hash time on this host fits
+     * the latency budget. The minimum work factor is used when even it exceeds the budget.
+     * Each work factor is measured as the fastest of a few hashes, and the next one is tried only
+     * if twice the current hash time still fits the budget.
+     *
+     * @param latencyBudget the maximum time one hash may take
+     * @param minStrength   the lowest acceptable work factor
+     * @param maxStrength   the highest work factor to consider
+     * @return the encoder with the calibrated work factor
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration latencyBudget, int minStrength, int maxStrength) {
+        long budgetNanos = latencyBudget.toNanos();
+        int strength = minStrength;
+        long hashNanos = measure(strength);
+        while (strength < maxStrength && hashNanos * 2 <= budgetNanos) {
+            hashNanos = measure(strength + 1);
+            if (hashNanos > budgetNanos) {
+                break;
+            }
+            strength++;
+        }
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Returns the BCrypt work factor of new hashes.
+     *
+     * @return the work factor
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Checks if the hash should be re-computed because its work factor is lower than the encoder's.
+     *
+     * @param encodedPassword the stored hash
+     * @return true if the hash is a BCrypt hash of a lower work factor, false otherwise
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    /**
+     * Measures the time one hash of the given work factor takes on this host.
+     *
+     * @param strength the work factor to measure
+     * @return the fastest of the sampled hash times, in nanoseconds
+     */
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+}
@@ -2,10 +2,12 @@ package by.razlivinsky.tasklist.web.security;
 
 import by.razlivinsky.tasklist.domain.user.Role;
 import by.razlivinsky.tasklist.domain.user.User;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,6 +34,31 @@ public class JwtEntityFactory {
         );
     }
 
+    /**
+     * Create a JwtEntity object from the claims of a verified access token, without loading the user.
+     *
+     * @param claims the claims of the access token
+     * @return the JwtEntity containing the user's id, username and roles, or null if the token carries no roles
+     */
+    public static JwtEntity create(Claims claims) {
+        Object id = claims.get("id");
+        Object roles = claims.get("roles");
+        if (!(id instanceof Number) || !(roles instanceof Collection<?> roleNames)) {
+            return null;
+        }
+        List<GrantedAuthority> authorities = roleNames.stream()
+                .map(Object::toString)
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        return new JwtEntity(
+                ((Number) id).longValue(),
+                claims.getSubject(),
+                null,
+                null,
+                authorities
+        );
+    }
+
     /**
      * Converts a list of Role objects to a list of GrantedAuthority objects.
      *
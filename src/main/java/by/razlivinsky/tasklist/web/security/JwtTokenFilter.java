@@ -1,6 +1,7 @@
 package by.razlivinsky.tasklist.web.security;
 
 import by.razlivinsky.tasklist.domain.exception.ResourceNotFoundException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -25,6 +26,7 @@ public class JwtTokenFilter extends GenericFilterBean {
 
     /**
      * Performs JWT token validation and sets the authentication context for the request.
+     * The token is verified once and its claims are reused to build the authentication.
      *
      * @param servletRequest  the request to process
      * @param servletResponse the response to process
@@ -40,9 +42,10 @@ public class JwtTokenFilter extends GenericFilterBean {
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             bearerToken = bearerToken.substring(7);
         }
-        if (bearerToken != null && tokenProvider.validateToken(bearerToken)) {
+        Claims claims = bearerToken == null ? null : tokenProvider.verify(bearerToken);
+        if (claims != null) {
             try {
-                Authentication authentication = tokenProvider.getAuthentication(bearerToken);
+                Authentication authentication = tokenProvider.getAuthentication(claims);
                 if (authentication != null) {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
@@ -4,10 +4,10 @@ import by.razlivinsky.tasklist.domain.exception.AccessDeniedException;
 import by.razlivinsky.tasklist.domain.user.Role;
 import by.razlivinsky.tasklist.domain.user.User;
 import by.razlivinsky.tasklist.service.UserService;
+import by.razlivinsky.tasklist.service.impl.ActiveUserIndex;
 import by.razlivinsky.tasklist.service.props.JwtProperties;
 import by.razlivinsky.tasklist.web.dto.auth.JwtResponse;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -37,6 +37,8 @@ public class JwtTokenProvider {
 
     private final UserDetailsService userDetailsService;
     private final UserService userService;
+    private final ActiveUserIndex activeUserIndex;
+    private final JwtTokenVerifier tokenVerifier;
     private Key key;
 
     /**
@@ -109,10 +111,11 @@ public class JwtTokenProvider {
      */
     public JwtResponse refreshUserTokens(String refreshToken) {
         JwtResponse jwtResponse = new JwtResponse();
-        if(!validateToken(refreshToken)) {
+        Claims claims = verify(refreshToken);
+        if (claims == null) {
             throw new AccessDeniedException();
         }
-        Long userId = Long.valueOf(getId(refreshToken));
+        Long userId = Long.valueOf(claims.get("id").toString());
         User user = userService.getById(userId);
         jwtResponse.setId(userId);
         jwtResponse.setUsername(user.getUsername());
@@ -128,56 +131,51 @@ public class JwtTokenProvider {
      * @return true if the token is valid, false otherwise
      */
     public boolean validateToken(String token) {
-        Jws<Claims> claims = Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-        return !claims.getBody().getExpiration().before(new Date());
+        return verify(token) != null;
     }
 
     /**
-     * Retrieves the user ID from the provided token.
+     * Verifies the provided token once and returns its claims, so that callers can pass them downstream
+     * instead of parsing the token again.
      *
-     * @param token the token from which to retrieve the user ID
-     * @return the user ID extracted from the token
+     * @param token the token to verify
+     * @return the claims of the token, or null if the token is invalid or expired
      */
-    private String getId(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("id")
-                .toString();
+    public Claims verify(String token) {
+        return tokenVerifier.verify(token);
     }
 
     /**
-     * Retrieves the username from the provided token.
+     * Retrieves the user authentication details based on the provided token.
      *
-     * @param token the token from which to retrieve the username
-     * @return the username extracted from the token
+     * @param token the token from which to retrieve user authentication details
+     * @return the user authentication details, or null if the token cannot authenticate a request
      */
-    private String getUsername(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    public Authentication getAuthentication(String token) {
+        Claims claims = verify(token);
+        return claims == null ? null : getAuthentication(claims);
     }
 
     /**
-     * Retrieves the user authentication details based on the provided token.
+     * Retrieves the user authentication details based on the claims of an already verified token.
+     * In claims mode the details are built from the token's id and roles claims without a database lookup,
+     * and tokens without roles, such as refresh tokens, or of users marked deleted, as told by the active user
+     * index, are not accepted.
      *
-     * @param token the token from which to retrieve user authentication details
-     * @return the user authentication details
+     * @param claims the claims of the verified token
+     * @return the user authentication details, or null if the token cannot authenticate a request
      */
-    public Authentication getAuthentication(String token) {
-        String username = getUsername(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails;
+        if (jwtProperties.getAuthentication() == JwtProperties.AuthenticationMode.CLAIMS) {
+            JwtEntity jwtEntity = JwtEntityFactory.create(claims);
+            if (jwtEntity == null || !activeUserIndex.isActive(jwtEntity.getId())) {
+                return null;
+            }
+            userDetails = jwtEntity;
+        } else {
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 }
\ No newline at end of file
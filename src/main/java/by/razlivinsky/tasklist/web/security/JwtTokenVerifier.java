@@ -0,0 +1,134 @@
+package by.razlivinsky.tasklist.web.security;
+
+import by.razlivinsky.tasklist.service.props.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * JwtTokenVerifier class verifies JWT tokens with a single shared parser and remembers verified tokens,
+ * keyed by their SHA-256 digest, until they expire so that repeated tokens skip signature verification.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+public class JwtTokenVerifier {
+    private static final String CACHE_NAME = "jwtVerification";
+
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
+
+    /**
+     * Constructs a new JwtTokenVerifier and registers the hit and miss metrics of its cache.
+     *
+     * @param jwtProperties the JWT properties holding the secret and cache settings
+     * @param meterRegistry the registry the cache metrics are bound to
+     */
+    public JwtTokenVerifier(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes()))
+                .build();
+        JwtProperties.VerificationCache cacheProperties = jwtProperties.getVerificationCache();
+        if (cacheProperties.isEnabled()) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(cacheProperties.getMaximumSize())
+                    .expireAfter(new UntilTokenExpiration())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+        } else {
+            this.verifiedTokens = null;
+        }
+    }
+
+    /**
+     * Verifies the signature and expiration of the token and returns its claims.
+     * A token verified before is answered from the cache until it expires.
+     *
+     * @param token the compact JWT token
+     * @return the claims of the token, or null if the token is malformed, forged or expired
+     */
+    public Claims verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        String digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = parse(token);
+            if (claims != null) {
+                verifiedTokens.put(digest, claims);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * Parses and fully verifies the token.
+     *
+     * @param token the compact JWT token
+     * @return the claims of the token, or null if the token is invalid
+     */
+    private Claims parse(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null || claims.getExpiration().before(new Date())) {
+                return null;
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Computes the cache key of the token, so that the token itself is not kept in memory.
+     *
+     * @param token the compact JWT token
+     * @return the Base64 encoded SHA-256 digest of the token
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * UntilTokenExpiration class expires each cached entry at the expiration time of its token.
+     */
+    private static class UntilTokenExpiration implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long millis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, millis) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
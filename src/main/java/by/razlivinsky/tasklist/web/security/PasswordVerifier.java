@@ -0,0 +1,161 @@
+package by.razlivinsky.tasklist.web.security;
+
+import by.razlivinsky.tasklist.domain.exception.ServiceUnavailableException;
+import by.razlivinsky.tasklist.service.props.PasswordProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PasswordVerifier class checks and computes password hashes on a dedicated, bounded pool of threads,
+ * so that bursts of logins queue for the pool instead of occupying request threads with hashing.
+ * A check that cannot be queued, or that waits longer than the configured timeout, fails fast.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+public class PasswordVerifier {
+    private static final String POOL_NAME = "passwordVerifier";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutNanos;
+    private final Timer hashTimer;
+    private final Counter rejections;
+    private final String dummyHash;
+
+    /**
+     * Constructs a new PasswordVerifier, computes the dummy hash with the current encoder and registers
+     * the metrics of its pool.
+     *
+     * @param passwordEncoder    the password encoder checking the hashes
+     * @param passwordProperties the password properties holding the pool settings
+     * @param meterRegistry      the registry the pool metrics are bound to
+     */
+    public PasswordVerifier(PasswordEncoder passwordEncoder, PasswordProperties passwordProperties,
+                            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(
+                passwordProperties.getVerifierThreads(),
+                passwordProperties.getVerifierThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(passwordProperties.getQueueCapacity()),
+                new CustomizableThreadFactory(POOL_NAME + "-"));
+        this.queueTimeoutNanos = passwordProperties.getQueueTimeout().toNanos();
+        this.hashTimer = Timer.builder("security.password.hash")
+                .description("Time spent checking or computing a password hash")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("security.password.rejected")
+                .description("Password checks rejected because the verifier pool was saturated")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, POOL_NAME, Tags.empty()).bindTo(meterRegistry);
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Returns a hash computed by the current encoder of a random password no one knows. Checking a password
+     * against it costs as much as checking it against a real hash, so logins of unknown users take as long
+     * as failed logins of existing users.
+     *
+     * @return the dummy hash
+     */
+    public String getDummyHash() {
+        return dummyHash;
+    }
+
+    /**
+     * Checks the raw password against the hash on the verifier pool, waiting for the result.
+     *
+     * @param rawPassword     the password to check
+     * @param encodedPassword the stored hash of the password
+     * @return true if the password matches the hash, false otherwise
+     * @throws ServiceUnavailableException if the pool is saturated or the check times out
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hashes the raw password on the verifier pool, waiting for the result.
+     *
+     * @param rawPassword the password to hash
+     * @return the hash of the password
+     * @throws ServiceUnavailableException if the pool is saturated or the hashing times out
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks if the stored hash was computed with another encoder or work factor than new hashes are.
+     *
+     * @param encodedPassword the stored hash of the password
+     * @return true if the hash should be re-computed, false otherwise
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Runs the hashing work on the verifier pool and waits for it at most the queue timeout.
+     * Work that has not started when the timeout elapses is cancelled.
+     *
+     * @param work the hashing work
+     * @param <T>  the type of the result
+     * @return the result of the work
+     * @throws ServiceUnavailableException if the pool is saturated or the work times out
+     */
+    private <T> T execute(Callable<T> work) {
+        Future<T> result;
+        try {
+            result = executor.submit(() -> hashTimer.recordCallable(work));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceUnavailableException("Too many login attempts, try again later.");
+        }
+        try {
+            return result.get(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(false);
+            rejections.increment();
+            throw new ServiceUnavailableException("Too many login attempts, try again later.");
+        } catch (InterruptedException e) {
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Login was interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Stops the verifier pool when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
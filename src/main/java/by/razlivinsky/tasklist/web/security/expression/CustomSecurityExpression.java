@@ -0,0 +1,100 @@
+package by.razlivinsky.tasklist.web.security.expression;
+
+import by.razlivinsky.tasklist.domain.user.Role;
+import by.razlivinsky.tasklist.service.TaskService;
+import by.razlivinsky.tasklist.service.UserService;
+import by.razlivinsky.tasklist.service.impl.TaskOwnershipIndex;
+import by.razlivinsky.tasklist.web.security.JwtEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * CustomSecurityExpression class provides the access checks used in the method security expressions of controllers.
+ * Administrators may access every user and task; other users may access only themselves and the tasks they own.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Service("customSecurityExpression")
+@RequiredArgsConstructor
+public class CustomSecurityExpression {
+    private final TaskOwnershipIndex taskOwnershipIndex;
+    private final UserService userService;
+    private final TaskService taskService;
+
+    /**
+     * Checks if the current user may access the user with the given ID.
+     *
+     * @param id the ID of the user to access
+     * @return true if the current user is that user or an administrator, false otherwise or if the ID is absent
+     */
+    public boolean canAccessUser(Long id) {
+        return id != null && (id.equals(currentUser().getId()) || hasRole(Role.ROLE_ADMIN));
+    }
+
+    /**
+     * Checks if the current user may access the task with the given ID.
+     * Ownership is answered from the task ownership index; a task missing from the index is checked
+     * against the database and recorded in the index when the user turns out to own it.
+     *
+     * @param taskId the ID of the task to access
+     * @return true if the current user owns the task or is an administrator, false otherwise or if the ID is absent
+     */
+    public boolean canAccessTask(Long taskId) {
+        if (taskId == null) {
+            return false;
+        }
+        if (hasRole(Role.ROLE_ADMIN)) {
+            return true;
+        }
+        Long userId = currentUser().getId();
+        if (taskOwnershipIndex.contains(userId, taskId)) {
+            return true;
+        }
+        if (userService.isTaskOwner(userId, taskId)) {
+            taskOwnershipIndex.add(userId, List.of(taskId));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the ID of the owner of a task the current user passed the access check for.
+     * Other users may access only the tasks they own, so the owner is the current user; for administrators
+     * the owner is looked up in the database.
+     *
+     * @param taskId the ID of the task the current user may access
+     * @return the ID of the owner of the task
+     */
+    public Long taskOwnerId(Long taskId) {
+        if (hasRole(Role.ROLE_ADMIN)) {
+            return taskService.getOwnerId(taskId);
+        }
+        return currentUser().getId();
+    }
+
+    /**
+     * Returns the principal of the current request.
+     *
+     * @return the JwtEntity of the authenticated user
+     */
+    private JwtEntity currentUser() {
+        return (JwtEntity) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    /**
+     * Checks if the current user has the role.
+     *
+     * @param role the role to look for
+     * @return true if the current user has the role, false otherwise
+     */
+    private boolean hasRole(Role role) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> role.name().equals(authority.getAuthority()));
+    }
+}
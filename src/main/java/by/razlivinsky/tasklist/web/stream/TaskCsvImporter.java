@@ -0,0 +1,72 @@
+package by.razlivinsky.tasklist.web.stream;
+
+import by.razlivinsky.tasklist.service.TaskService;
+import by.razlivinsky.tasklist.service.props.TaskProperties;
+import by.razlivinsky.tasklist.web.dto.task.TaskImportDto;
+import by.razlivinsky.tasklist.web.mappers.TaskMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TaskCsvImporter class creates a user's tasks from a CSV request body as it is received, handing the valid rows
+ * to the task service one at a time and reporting the rows it rejected.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+public class TaskCsvImporter {
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final TaskProperties taskProperties;
+
+    /**
+     * Constructs a new TaskCsvImporter.
+     *
+     * @param taskService    the task service creating the tasks
+     * @param taskMapper     the mapper converting rows to tasks
+     * @param validator      the validator checking the rows
+     * @param taskProperties the task properties holding the import settings
+     */
+    public TaskCsvImporter(TaskService taskService, TaskMapper taskMapper, Validator validator,
+                           TaskProperties taskProperties) {
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.taskProperties = taskProperties;
+    }
+
+    /**
+     * Creates the tasks of the CSV request body for the user. The body is decoded with the charset of the request,
+     * UTF-8 by default.
+     *
+     * @param userId  the ID of the user to whom the tasks are to be associated
+     * @param request the HTTP request carrying the CSV
+     * @return the numbers of created tasks and rejected rows, with the first rejected rows
+     * @throws IOException if the request body cannot be obtained
+     */
+    public TaskImportDto importCsv(Long userId, HttpServletRequest request) throws IOException {
+        Charset charset = request.getCharacterEncoding() == null
+                ? StandardCharsets.UTF_8
+                : Charset.forName(request.getCharacterEncoding());
+        try (Reader reader = new InputStreamReader(request.getInputStream(), charset)) {
+            TaskCsvReader tasks = new TaskCsvReader(reader, validator, taskMapper,
+                    taskProperties.getCsvImport().getMaxReportedRejections());
+            TaskImportDto result = new TaskImportDto();
+            result.setInserted(taskService.importAll(tasks, userId));
+            result.setRejected(tasks.getRejected());
+            result.setRejections(tasks.getRejections());
+            return result;
+        }
+    }
+}
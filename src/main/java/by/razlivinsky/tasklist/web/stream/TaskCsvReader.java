@@ -0,0 +1,338 @@
+package by.razlivinsky.tasklist.web.stream;
+
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.web.dto.task.TaskDto;
+import by.razlivinsky.tasklist.web.dto.task.TaskImportDto;
+import by.razlivinsky.tasklist.web.dto.validation.OnCreate;
+import by.razlivinsky.tasklist.web.mappers.TaskMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * TaskCsvReader class reads tasks from CSV one row at a time, validating every row with the rules of TaskDto
+ * and skipping the rows that break them. The first line is a header naming the columns: title, description and
+ * expirationDate (or expiration_date), in any order; only title is required. Fields follow RFC 4180 and lines
+ * end with LF or CRLF. Only a bounded prefix of each field and a bounded number of fields are kept,
+ * so memory use depends neither on the number of rows nor on their length.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+class TaskCsvReader implements Iterator<Task> {
+    private static final DateTimeFormatter EXPIRATION_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_FIELD_LENGTH = 1024;
+    private static final int MAX_HEADER_FIELDS = 16;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * Column enum represents the columns a CSV file may contain.
+     */
+    private enum Column {
+        TITLE,
+        DESCRIPTION,
+        EXPIRATION_DATE;
+
+        /**
+         * Resolves the column named in the header, ignoring case and underscores.
+         *
+         * @param name the name in the header
+         * @return the column
+         * @throws IllegalStateException if no column has the name
+         */
+        static Column fromHeader(String name) {
+            String normalized = name == null ? "" : name.trim().replace("_", "");
+            return Arrays.stream(values())
+                    .filter(column -> column.name().replace("_", "").equalsIgnoreCase(normalized))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Unknown CSV column: " + name + "."));
+        }
+    }
+
+    private final Reader reader;
+    private final Validator validator;
+    private final TaskMapper taskMapper;
+    private final int maxReportedRejections;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+    private final List<TaskImportDto.Rejection> rejections = new ArrayList<>();
+    private final Column[] columns;
+    private int position;
+    private int limit;
+    private int fieldCount;
+    private long line = 1;
+    private long recordLine;
+    private long rejected;
+    private Task next;
+
+    /**
+     * Constructs a new TaskCsvReader and reads the header.
+     *
+     * @param reader                the reader of the CSV
+     * @param validator             the validator checking the rows
+     * @param taskMapper            the mapper converting rows to tasks
+     * @param maxReportedRejections the number of rejected rows to keep the reasons of
+     * @throws IllegalStateException if the header is missing, names an unknown or duplicate column or lacks the title
+     * @throws UncheckedIOException  if reading fails
+     */
+    TaskCsvReader(Reader reader, Validator validator, TaskMapper taskMapper, int maxReportedRejections) {
+        this.reader = reader;
+        this.validator = validator;
+        this.taskMapper = taskMapper;
+        this.maxReportedRejections = maxReportedRejections;
+        this.columns = readHeader();
+    }
+
+    /**
+     * Checks if another valid row follows, reading and rejecting invalid rows on the way.
+     *
+     * @return true if a valid row follows, false at the end of the CSV
+     * @throws IllegalStateException if a quoted field is not terminated
+     * @throws UncheckedIOException  if reading fails
+     */
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (!readRecord()) {
+                return false;
+            }
+            if (fieldCount == 1 && fields.get(0) == null) {
+                continue;
+            }
+            next = toTask();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the task of the next valid row.
+     *
+     * @return the task
+     * @throws NoSuchElementException if no valid row follows
+     */
+    @Override
+    public Task next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Task task = next;
+        next = null;
+        return task;
+    }
+
+    /**
+     * Returns the number of rows rejected so far.
+     *
+     * @return the number of rejected rows
+     */
+    long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Returns the first rejected rows with the reasons of their rejection.
+     *
+     * @return the reported rejections
+     */
+    List<TaskImportDto.Rejection> getRejections() {
+        return rejections;
+    }
+
+    /**
+     * Reads the header and resolves its columns.
+     *
+     * @return the columns in the order of the header
+     */
+    private Column[] readHeader() {
+        if (!readRecord()) {
+            throw new IllegalStateException("CSV header is missing.");
+        }
+        if (fieldCount > fields.size()) {
+            throw new IllegalStateException("CSV header has too many columns.");
+        }
+        String first = fields.get(0);
+        if (first != null && !first.isEmpty() && first.charAt(0) == BYTE_ORDER_MARK) {
+            fields.set(0, first.substring(1));
+        }
+        Column[] header = new Column[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            header[i] = Column.fromHeader(fields.get(i));
+            for (int j = 0; j < i; j++) {
+                if (header[j] == header[i]) {
+                    throw new IllegalStateException("Duplicate CSV column: " + fields.get(i) + ".");
+                }
+            }
+        }
+        if (Arrays.stream(header).noneMatch(column -> column == Column.TITLE)) {
+            throw new IllegalStateException("CSV header must contain the title column.");
+        }
+        return header;
+    }
+
+    /**
+     * Converts the current row to a task, rejecting it if it has the wrong number of fields or breaks the rules
+     * of TaskDto.
+     *
+     * @return the task, or null if the row is rejected
+     */
+    private Task toTask() {
+        if (fieldCount != columns.length) {
+            reject(List.of("Row must have " + columns.length + " fields."));
+            return null;
+        }
+        TaskDto dto = new TaskDto();
+        for (int i = 0; i < columns.length; i++) {
+            String value = fields.get(i);
+            switch (columns[i]) {
+                case TITLE -> dto.setTitle(value);
+                case DESCRIPTION -> dto.setDescription(value);
+                case EXPIRATION_DATE -> {
+                    if (value != null) {
+                        try {
+                            dto.setExpirationDate(LocalDateTime.parse(value, EXPIRATION_DATE_FORMAT));
+                        } catch (DateTimeParseException e) {
+                            reject(List.of("Expiration date must match yyyy-MM-dd HH:mm."));
+                            return null;
+                        }
+                    }
+                }
+            }
+        }
+        List<String> errors = validator.validate(dto, OnCreate.class).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+        if (!errors.isEmpty()) {
+            reject(errors);
+            return null;
+        }
+        return taskMapper.toEntity(dto);
+    }
+
+    /**
+     * Counts the current row as rejected and reports it while fewer than the maximum rows are reported.
+     *
+     * @param errors the reasons of the rejection
+     */
+    private void reject(List<String> errors) {
+        rejected++;
+        if (rejections.size() < maxReportedRejections) {
+            TaskImportDto.Rejection rejection = new TaskImportDto.Rejection();
+            rejection.setLine(recordLine);
+            rejection.setErrors(errors);
+            rejections.add(rejection);
+        }
+    }
+
+    /**
+     * Reads the next record into the fields. An empty unquoted field is read as null. Fields beyond the columns
+     * of the header are counted but not kept, and so are characters beyond the maximum field length.
+     *
+     * @return true if a record was read, false at the end of the CSV
+     * @throws IllegalStateException if a quoted field is not terminated
+     */
+    private boolean readRecord() {
+        fields.clear();
+        fieldCount = 0;
+        field.setLength(0);
+        recordLine = line;
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        boolean quoted = false;
+        boolean inQuotes = false;
+        while (true) {
+            if (inQuotes) {
+                if (c == -1) {
+                    throw new IllegalStateException("Quoted field starting on line " + recordLine + " is not terminated.");
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        inQuotes = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                append(c);
+            } else if (c == '"' && field.length() == 0 && !quoted) {
+                inQuotes = true;
+                quoted = true;
+            } else if (c == ',') {
+                endField(quoted);
+                quoted = false;
+            } else if (c == '\n' || c == -1) {
+                endField(quoted);
+                if (c == '\n') {
+                    line++;
+                }
+                return true;
+            } else if (c != '\r') {
+                append(c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Appends the character to the current field unless the field is already longer than the maximum length.
+     *
+     * @param c the character
+     */
+    private void append(int c) {
+        if (field.length() <= MAX_FIELD_LENGTH) {
+            field.append((char) c);
+        }
+    }
+
+    /**
+     * Ends the current field, keeping it if the record does not have more fields than it may keep.
+     *
+     * @param quoted whether the field was quoted
+     */
+    private void endField(boolean quoted) {
+        int maxFields = columns == null ? MAX_HEADER_FIELDS : columns.length;
+        if (fieldCount < maxFields) {
+            fields.add(field.length() == 0 && !quoted ? null : field.toString());
+        }
+        fieldCount++;
+        field.setLength(0);
+    }
+
+    /**
+     * Reads the next character through the buffer.
+     *
+     * @return the character, or -1 at the end of the CSV
+     * @throws UncheckedIOException if reading fails
+     */
+    private int read() {
+        if (position == limit) {
+            try {
+                limit = reader.read(buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,404 @@
+package by.razlivinsky.tasklist.web.stream;
+
+import by.razlivinsky.tasklist.domain.exception.ServiceUnavailableException;
+import by.razlivinsky.tasklist.domain.task.TaskEvent;
+import by.razlivinsky.tasklist.domain.task.TaskEventType;
+import by.razlivinsky.tasklist.service.props.TaskProperties;
+import by.razlivinsky.tasklist.web.mappers.TaskMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TaskEventDispatcher class fans the task events out to the SSE subscribers of the users they concern.
+ * Dispatching never blocks: each event is serialized once and offered to the bounded queue of every subscriber,
+ * and a small pool of sender threads drains the queues, one subscriber at a time. A subscriber whose queue is
+ * full has fallen behind and is disconnected, so a slow client holds at most a queue of events and one sender
+ * thread, and never delays the others. Sending is a blocking write, so a client that stops reading could pin
+ * a sender until the container's write timeout: a send still running after the send timeout disconnects its
+ * subscriber, and the pool gets an extra sender until the stuck write returns, so the other subscribers keep
+ * the configured number of senders. A heartbeat comment is queued to every subscriber at a fixed interval,
+ * which keeps idle connections open through proxies and detects clients that went away.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Slf4j
+@Component
+public class TaskEventDispatcher implements AutoCloseable {
+    private static final String EVICTIONS_COUNTER = "tasklist.tasks.stream.evictions";
+    private static final Message HEARTBEAT = new Message(null, null, "heartbeat");
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long TIMED_OUT = Long.MAX_VALUE;
+
+    private final ObjectMapper objectMapper;
+    private final TaskMapper taskMapper;
+    private final TaskProperties.Stream streamProperties;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService heartbeats;
+    private final Counter sentMessages;
+    private final Counter slowEvictions;
+    private final Counter failedEvictions;
+    private final Counter timeoutEvictions;
+    private int stuckSenders;
+
+    /**
+     * Message record represents one SSE message: an event with its name and data, or a comment.
+     *
+     * @param name    the name of the event, or null for a comment
+     * @param data    the data of the event, or null for a comment
+     * @param comment the comment, or null for an event
+     */
+    private record Message(String name, String data, String comment) {
+        /**
+         * Builds the SSE message.
+         *
+         * @return the SSE event builder
+         */
+        SseEmitter.SseEventBuilder toEvent() {
+            return comment != null
+                    ? SseEmitter.event().comment(comment)
+                    : SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    /**
+     * Subscriber class represents one SSE connection with the queue of the messages not sent to it yet.
+     */
+    private static class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicLong sendStartedAt = new AtomicLong(IDLE);
+
+        /**
+         * Constructs a new Subscriber.
+         *
+         * @param userId        the ID of the user whose task events are sent
+         * @param emitter       the emitter of the connection
+         * @param queueCapacity the number of messages that may wait to be sent
+         */
+        Subscriber(Long userId, SseEmitter emitter, int queueCapacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+
+    /**
+     * Constructs a new TaskEventDispatcher, registers its metrics and schedules the heartbeats and the checks
+     * of the send timeout.
+     *
+     * @param objectMapper   the application object mapper serializing the events
+     * @param taskMapper     the mapper converting tasks to DTOs
+     * @param taskProperties the task properties holding the stream settings
+     * @param meterRegistry  the registry the stream metrics are registered in
+     */
+    public TaskEventDispatcher(ObjectMapper objectMapper, TaskMapper taskMapper, TaskProperties taskProperties,
+                               MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.taskMapper = taskMapper;
+        this.streamProperties = taskProperties.getStream();
+        this.senders = new ThreadPoolExecutor(streamProperties.getSenderThreads(),
+                streamProperties.getSenderThreads(), 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("taskStream-"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("taskStreamHeartbeat-"));
+        long heartbeatInterval = streamProperties.getHeartbeatInterval().toMillis();
+        this.heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeatInterval, heartbeatInterval,
+                TimeUnit.MILLISECONDS);
+        long sendTimeoutCheckInterval = Math.max(streamProperties.getSendTimeout().toMillis() / 4, 1);
+        this.heartbeats.scheduleAtFixedRate(this::expireStuckSends, sendTimeoutCheckInterval,
+                sendTimeoutCheckInterval, TimeUnit.MILLISECONDS);
+        Gauge.builder("tasklist.tasks.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open SSE subscriptions to task events")
+                .register(meterRegistry);
+        this.sentMessages = Counter.builder("tasklist.tasks.stream.messages")
+                .description("Task events and heartbeats sent to SSE subscribers")
+                .register(meterRegistry);
+        this.slowEvictions = Counter.builder(EVICTIONS_COUNTER)
+                .description("SSE subscribers disconnected by the dispatcher")
+                .tag("reason", "slow")
+                .register(meterRegistry);
+        this.failedEvictions = Counter.builder(EVICTIONS_COUNTER)
+                .description("SSE subscribers disconnected by the dispatcher")
+                .tag("reason", "error")
+                .register(meterRegistry);
+        this.timeoutEvictions = Counter.builder(EVICTIONS_COUNTER)
+                .description("SSE subscribers disconnected by the dispatcher")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to the task events of the user.
+     *
+     * @param userId the ID of the user
+     * @return the emitter of the new SSE connection
+     * @throws ServiceUnavailableException if the stream is disabled or the node has the maximum number of subscribers
+     */
+    public SseEmitter subscribe(Long userId) {
+        if (!streamProperties.isEnabled()) {
+            throw new ServiceUnavailableException("Task stream is disabled.");
+        }
+        if (subscriberCount.incrementAndGet() > streamProperties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many task stream subscribers, try again later.");
+        }
+        SseEmitter emitter = new SseEmitter(streamProperties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter, streamProperties.getQueueCapacity());
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.compute(userId, (id, userSubscribers) -> {
+            Set<Subscriber> added = userSubscribers == null ? ConcurrentHashMap.newKeySet() : userSubscribers;
+            added.add(subscriber);
+            return added;
+        });
+        offer(subscriber, HEARTBEAT);
+        return emitter;
+    }
+
+    /**
+     * Dispatches the task event to the subscribers of its user, or to all subscribers if it has no user.
+     *
+     * @param event the task event
+     */
+    @EventListener
+    public void onTaskEvent(TaskEvent event) {
+        Message message = toMessage(event);
+        if (message == null) {
+            return;
+        }
+        if (event.getUserId() == null) {
+            subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(s -> offer(s, message)));
+            return;
+        }
+        Set<Subscriber> userSubscribers = subscribers.get(event.getUserId());
+        if (userSubscribers != null) {
+            userSubscribers.forEach(subscriber -> offer(subscriber, message));
+        }
+    }
+
+    /**
+     * Serializes the task event into an SSE message named after its type. A created or updated task is sent
+     * as a TaskDto, a deleted task as its ID only.
+     *
+     * @param event the task event
+     * @return the message, or null if the event cannot be serialized
+     */
+    private Message toMessage(TaskEvent event) {
+        Object data;
+        if (event.getType() == TaskEventType.RELOAD || event.getTask() == null) {
+            data = Map.of();
+        } else if (event.getType() == TaskEventType.DELETED) {
+            data = Map.of("id", event.getTask().getId());
+        } else {
+            data = taskMapper.toDto(event.getTask());
+        }
+        try {
+            return new Message(event.getType().name(), objectMapper.writeValueAsString(data), null);
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping task event that cannot be serialized: {}", event, e);
+            return null;
+        }
+    }
+
+    /**
+     * Queues the message to the subscriber and makes sure a sender drains the queue, disconnecting
+     * the subscriber if the queue is full.
+     *
+     * @param subscriber the subscriber
+     * @param message    the message
+     */
+    private void offer(Subscriber subscriber, Message message) {
+        if (!subscriber.queue.offer(message)) {
+            evict(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    /**
+     * Submits the draining of the subscriber's queue unless it is already being drained.
+     *
+     * @param subscriber the subscriber
+     */
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.closed.get() || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    /**
+     * Sends the queued messages to the subscriber, dropping it if sending fails, in which case the container
+     * completes the connection. Messages queued after the queue was found empty are picked up by another drain.
+     *
+     * @param subscriber the subscriber
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            Message message;
+            while (!subscriber.closed.get() && (message = subscriber.queue.poll()) != null) {
+                send(subscriber, message);
+                sentMessages.increment();
+            }
+        } catch (IOException | IllegalStateException e) {
+            if (remove(subscriber)) {
+                failedEvictions.increment();
+            }
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * Sends the message to the subscriber, recording when the send started so that a send running past
+     * the send timeout can be detected. If the send was timed out meanwhile, the extra sender added for it is
+     * released and the connection of the already disconnected subscriber is completed.
+     *
+     * @param subscriber the subscriber
+     * @param message    the message
+     * @throws IOException if the message cannot be written
+     */
+    private void send(Subscriber subscriber, Message message) throws IOException {
+        long startedAt = System.nanoTime();
+        subscriber.sendStartedAt.set(startedAt);
+        boolean sent = false;
+        try {
+            subscriber.emitter.send(message.toEvent());
+            sent = true;
+        } finally {
+            if (!subscriber.sendStartedAt.compareAndSet(startedAt, IDLE)) {
+                resizeSenders(-1);
+                if (sent) {
+                    subscriber.emitter.complete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Disconnects the subscribers whose current send has been running for longer than the send timeout,
+     * adding a sender to the pool for each of them while their write is stuck.
+     */
+    private void expireStuckSends() {
+        long now = System.nanoTime();
+        long sendTimeout = streamProperties.getSendTimeout().toNanos();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            long startedAt = subscriber.sendStartedAt.get();
+            if (startedAt != IDLE && startedAt != TIMED_OUT && now - startedAt > sendTimeout
+                    && subscriber.sendStartedAt.compareAndSet(startedAt, TIMED_OUT)) {
+                resizeSenders(1);
+                if (remove(subscriber)) {
+                    timeoutEvictions.increment();
+                }
+            }
+        }));
+    }
+
+    /**
+     * Changes the number of senders stuck in a timed out send by the delta, keeping the configured number
+     * of senders available to the other subscribers.
+     *
+     * @param delta the change of the number of stuck senders
+     */
+    private synchronized void resizeSenders(int delta) {
+        stuckSenders += delta;
+        int size = streamProperties.getSenderThreads() + stuckSenders;
+        if (delta > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    /**
+     * Queues a heartbeat to every subscriber.
+     */
+    private void heartbeat() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(s -> offer(s, HEARTBEAT)));
+    }
+
+    /**
+     * Disconnects the subscriber that fell behind; an EventSource client reconnects and reloads its tasks.
+     *
+     * @param subscriber the subscriber
+     */
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            slowEvictions.increment();
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * Removes the subscriber, once, and drops its queued messages.
+     *
+     * @param subscriber the subscriber
+     * @return true if the subscriber was removed by this call, false if it had been removed before
+     */
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        subscriber.queue.clear();
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Stops the heartbeats and the senders and completes every subscription.
+     */
+    @Override
+    public void close() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            if (remove(subscriber)) {
+                subscriber.emitter.complete();
+            }
+        }));
+    }
+}
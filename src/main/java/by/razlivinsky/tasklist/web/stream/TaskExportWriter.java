@@ -0,0 +1,71 @@
+package by.razlivinsky.tasklist.web.stream;
+
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskExportFormat;
+import by.razlivinsky.tasklist.service.TaskService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * TaskExportWriter class writes exported tasks straight from the database to the HTTP response, either as CSV
+ * or as newline-delimited JSON, optionally gzip-compressed.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+public class TaskExportWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String GZIP = "gzip";
+
+    private final TaskService taskService;
+
+    /**
+     * Constructs a new TaskExportWriter.
+     *
+     * @param taskService the task service providing the tasks
+     */
+    public TaskExportWriter(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    /**
+     * Writes all tasks that match the criteria to the response as an attachment. Compressed output is sent with
+     * the gzip content encoding and compressed at the fastest level, so that compression keeps up with the copy.
+     *
+     * @param criteria   the filters of the tasks
+     * @param withOwners whether to include the owner of each task
+     * @param format     the format of the output
+     * @param gzip       whether to compress the output
+     * @param response   the HTTP response to write to
+     * @throws IOException if writing to the response fails
+     */
+    public void write(TaskCriteria criteria, boolean withOwners, TaskExportFormat format, boolean gzip,
+                      HttpServletResponse response) throws IOException {
+        boolean ndjson = format == TaskExportFormat.NDJSON;
+        response.setContentType(ndjson ? TaskStreamWriter.APPLICATION_NDJSON_VALUE : TaskCsvImporter.TEXT_CSV_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks." + (ndjson ? "ndjson" : "csv") + "\"");
+        response.setBufferSize(BUFFER_SIZE);
+        if (!gzip) {
+            taskService.exportAll(criteria, withOwners, format, response.getOutputStream());
+            return;
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        try (OutputStream out = new GZIPOutputStream(response.getOutputStream(), BUFFER_SIZE) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        }) {
+            taskService.exportAll(criteria, withOwners, format, out);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package by.razlivinsky.tasklist.web.stream;
+
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.service.TaskService;
+import by.razlivinsky.tasklist.web.dto.task.TaskDto;
+import by.razlivinsky.tasklist.web.dto.task.TaskDtoFilters;
+import by.razlivinsky.tasklist.web.mappers.TaskMapper;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TaskStreamWriter class writes a user's tasks straight to the HTTP response as they are read from the database,
+ * either as a single JSON array or as newline-delimited JSON.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Component
+public class TaskStreamWriter {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+
+    /**
+     * Constructs a new TaskStreamWriter.
+     *
+     * @param objectMapper the application object mapper
+     * @param taskService  the task service providing the tasks
+     * @param taskMapper   the mapper converting tasks to DTOs
+     */
+    public TaskStreamWriter(ObjectMapper objectMapper, TaskService taskService, TaskMapper taskMapper) {
+        this.objectMapper = objectMapper;
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+    }
+
+    /**
+     * Writes the user's tasks to the response as one JSON array.
+     *
+     * @param userId   the ID of the user whose tasks are written
+     * @param criteria the filters and sparse fieldset of the tasks
+     * @param response the HTTP response to write to
+     * @throws IOException if writing to the response fails
+     */
+    public void writeJsonArray(Long userId, TaskCriteria criteria, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ObjectWriter taskWriter = createTaskWriter(criteria);
+        try (JsonGenerator generator = createGenerator(response)) {
+            generator.writeStartArray();
+            taskService.streamAllByUserId(userId, criteria, task -> write(taskWriter, generator, task));
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes the user's tasks to the response as newline-delimited JSON, one task per line.
+     *
+     * @param userId   the ID of the user whose tasks are written
+     * @param criteria the filters and sparse fieldset of the tasks
+     * @param response the HTTP response to write to
+     * @throws IOException if writing to the response fails
+     */
+    public void writeNdjson(Long userId, TaskCriteria criteria, HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ObjectWriter taskWriter = createTaskWriter(criteria);
+        try (JsonGenerator generator = createGenerator(response)) {
+            generator.setRootValueSeparator(null);
+            taskService.streamAllByUserId(userId, criteria, task -> {
+                write(taskWriter, generator, task);
+                writeNewLine(generator);
+            });
+        }
+    }
+
+    /**
+     * Creates a UTF-8 JSON generator over the response output stream.
+     *
+     * @param response the HTTP response
+     * @return the JSON generator
+     * @throws IOException if the output stream cannot be obtained
+     */
+    private JsonGenerator createGenerator(HttpServletResponse response) throws IOException {
+        return objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+    }
+
+    /**
+     * Creates the writer serializing tasks with the sparse fieldset of the criteria, without flushing after each task.
+     *
+     * @param criteria the criteria holding the sparse fieldset
+     * @return the object writer for TaskDto objects
+     */
+    private ObjectWriter createTaskWriter(TaskCriteria criteria) {
+        return objectMapper.writer(TaskDtoFilters.of(criteria.getFields()))
+                .forType(TaskDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Serializes a single task with the generator.
+     *
+     * @param taskWriter the writer serializing TaskDto objects
+     * @param generator  the JSON generator
+     * @param task       the task to write
+     */
+    private void write(ObjectWriter taskWriter, JsonGenerator generator, Task task) {
+        try {
+            taskWriter.writeValue(generator, taskMapper.toDto(task));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Terminates the current NDJSON line.
+     *
+     * @param generator the JSON generator
+     */
+    private void writeNewLine(JsonGenerator generator) {
+        try {
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+--liquibase formatted sql
+
+--changeset razlivinsky:task-owner-partitioning-1
+--comment: Partitioned copy of tasks with the owner denormalized from users_tasks; the partition key must be part of the primary key
+alter sequence tasks_id_seq as bigint;
+
+create table tasks_partitioned
+(
+   id              bigint       not null default nextval('tasks_id_seq'),
+   owner_id        bigint       not null,
+   title           varchar(255) not null,
+   description     varchar(255) null,
+   status          varchar(255) not null,
+   expiration_date timestamp    null,
+   primary key (owner_id, id)
+) partition by hash (owner_id);
+
+--changeset razlivinsky:task-owner-partitioning-2 splitStatements:false
+--comment: The number of partitions is the taskPartitions changelog parameter
+do
+$$
+    begin
+        for remainder in 0..${taskPartitions} - 1
+            loop
+                execute format('create table tasks_p%s partition of tasks_partitioned '
+                                   || 'for values with (modulus %s, remainder %s)',
+                               remainder, ${taskPartitions}, remainder);
+            end loop;
+    end
+$$;
+
+--changeset razlivinsky:task-owner-partitioning-3
+--comment: Tasks without an owner are unreachable through the API and are not carried over
+insert into tasks_partitioned (id, owner_id, title, description, status, expiration_date)
+select t.id, o.user_id, t.title, t.description, t.status, t.expiration_date
+from tasks t
+         join (select task_id, min(user_id) as user_id
+               from users_tasks
+               group by task_id) o on o.task_id = t.id;
+
+alter table users_tasks drop constraint fk_users_tasks_tasks;
+
+alter sequence tasks_id_seq owned by tasks_partitioned.id;
+
+drop table tasks;
+
+alter table tasks_partitioned rename to tasks;
+
+alter index tasks_partitioned_pkey rename to tasks_pkey;
+
+create index idx_tasks_id on tasks (id);
+
+create index idx_tasks_owner_id_expiration_date_id on tasks (owner_id, expiration_date, id);
+
+create index idx_tasks_owner_id_status_expiration_date on tasks (owner_id, status, expiration_date);
+
+analyze tasks;
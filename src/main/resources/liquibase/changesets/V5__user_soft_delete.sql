@@ -0,0 +1,12 @@
+--liquibase formatted sql
+
+--changeset razlivinsky:user-soft-delete-1
+--comment: Users marked deleted are hidden from reads until the purger removes them together with their tasks
+alter table users add column deleted_at timestamp null;
+
+create index idx_users_deleted_at on users (deleted_at) where deleted_at is not null;
+
+--changeset razlivinsky:user-soft-delete-2
+--comment: Tasks whose owner was deleted before the purger existed
+delete from tasks t
+where not exists (select 1 from users u where u.id = t.owner_id);
@@ -0,0 +1,23 @@
+--liquibase formatted sql
+
+--changeset razlivinsky:task-outbox-1
+--comment: Task changes written in the transaction of the change and removed by the relay once delivered
+create table task_outbox
+(
+   id         bigint generated always as identity primary key,
+   type       varchar(32) not null,
+   task_id    bigint      not null,
+   user_id    bigint      not null,
+   payload    json        not null,
+   created_at timestamp   not null default now()
+);
+
+--changeset razlivinsky:task-outbox-2
+--comment: Position and count of the events delivered to each sink
+create table task_outbox_offsets
+(
+   sink          varchar(255) primary key,
+   last_event_id bigint       not null,
+   delivered     bigint       not null,
+   updated_at    timestamp    not null default now()
+);
@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+--changeset razlivinsky:task-identity-notes-1
+--comment: A unique index of a partitioned table must contain the partition key, so the ID of a task is not unique by itself
+comment on index idx_tasks_id is
+    'Not unique: task IDs are unique only while every task takes its ID from tasks_id_seq. '
+    'Single-task statements filter on owner_id and id, which the primary key keeps unique.';
+
+--changeset razlivinsky:task-identity-notes-2
+--comment: users_tasks no longer references tasks by a foreign key since the tasks are partitioned
+comment on column users_tasks.task_id is
+    'Not a foreign key: a row may point at a task that no longer exists. '
+    'Deleting a task or a user removes the rows in the same statement; nothing else does.';
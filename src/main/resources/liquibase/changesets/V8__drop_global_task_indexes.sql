@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset razlivinsky:drop-global-task-indexes-1
+--comment: Per-user pages filter on owner_id and use the owner-leading indexes of V4, so the global pagination indexes of V3 are not used; they went away with the table V4 replaced, and are dropped here should a database still have them
+drop index if exists idx_tasks_expiration_date_id;
+
+drop index if exists idx_tasks_status_expiration_date;
@@ -0,0 +1,18 @@
+package by.razlivinsky.tasklist.perf;
+
+import lombok.Data;
+
+/**
+ * BatchComparison class holds the task creation throughput measured one request per task and with batch requests.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+final class BatchComparison {
+    private int tasks;
+    private int batchSize;
+    private double oneByOneTasksPerSecond;
+    private double batchTasksPerSecond;
+    private double speedup;
+}
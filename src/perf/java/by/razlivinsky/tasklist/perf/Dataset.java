@@ -0,0 +1,35 @@
+package by.razlivinsky.tasklist.perf;
+
+import lombok.Data;
+
+/**
+ * Dataset class describes a loaded synthetic dataset and the users whose queries represent its skew:
+ * the hottest user, a heavy user at the top percentile of task counts and a typical user at the median.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+final class Dataset {
+    private int users;
+    private int tasks;
+    private double zipfExponent;
+    private double loadSeconds;
+    private long hotUserId;
+    private int hotUserTasks;
+    private long heavyUserId;
+    private int heavyUserTasks;
+    private long heavyUserTaskId;
+    private long typicalUserId;
+    private int typicalUserTasks;
+
+    /**
+     * Returns the username the generator gives to the user with the ID.
+     *
+     * @param userId the ID of the user
+     * @return the username of the user
+     */
+    static String username(long userId) {
+        return "dataset-user-" + userId + "@tasklist.by";
+    }
+}
@@ -0,0 +1,37 @@
+package by.razlivinsky.tasklist.perf;
+
+import lombok.Data;
+
+/**
+ * DatasetConfig class holds the shape of a synthetic dataset, read from perf.dataset.* system properties.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+final class DatasetConfig {
+    private int users;
+    private int tasks;
+    private double zipfExponent;
+    private double adminRatio;
+    private double nullExpirationRatio;
+    private long seed;
+
+    /**
+     * Reads the shape from the system properties, falling back to a dataset of production proportions
+     * that loads in about a minute on one developer machine.
+     *
+     * @return the dataset shape
+     */
+    static DatasetConfig fromSystemProperties() {
+        DatasetConfig config = new DatasetConfig();
+        config.setUsers(Integer.getInteger("perf.dataset.users", 100_000));
+        config.setTasks(Integer.getInteger("perf.dataset.tasks", 2_000_000));
+        config.setZipfExponent(Double.parseDouble(System.getProperty("perf.dataset.zipfExponent", "1.1")));
+        config.setAdminRatio(Double.parseDouble(System.getProperty("perf.dataset.adminRatio", "0.001")));
+        config.setNullExpirationRatio(Double.parseDouble(
+                System.getProperty("perf.dataset.nullExpirationRatio", "0.1")));
+        config.setSeed(Long.getLong("perf.dataset.seed", 42L));
+        return config;
+    }
+}
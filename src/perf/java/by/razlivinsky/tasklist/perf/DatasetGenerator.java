@@ -0,0 +1,268 @@
+package by.razlivinsky.tasklist.perf;
+
+import by.razlivinsky.tasklist.domain.task.Status;
+import by.razlivinsky.tasklist.domain.user.Role;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * DatasetGenerator class bulk-loads a synthetic dataset of users, roles, tasks and task assignments through COPY.
+ * Tasks are spread over users by a Zipf distribution, so a few users own a large share of all tasks and most
+ * users own a handful, as in production. Users are assigned to Zipf ranks in random order, so task counts do not
+ * correlate with user IDs. The same settings and seed always produce the same dataset.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+final class DatasetGenerator {
+    private static final String PASSWORD_HASH = "$2a$10$ddAw.G41GPWHNPEgeSrl0uGELmjR4880vTXs2aLj2gCr/xUHltfam";
+    private static final LocalDateTime EXPIRATION_BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final int EXPIRATION_SPREAD_MINUTES = 2 * 365 * 24 * 60;
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final String COPY_TASKS =
+            "COPY tasks (id, owner_id, title, description, status, expiration_date) FROM STDIN";
+
+    private final DataSource dataSource;
+    private final DatasetConfig config;
+
+    /**
+     * Constructs a new DatasetGenerator.
+     *
+     * @param dataSource the data source of the application schema
+     * @param config     the shape of the dataset
+     */
+    DatasetGenerator(DataSource dataSource, DatasetConfig config) {
+        this.dataSource = dataSource;
+        this.config = config;
+    }
+
+    /**
+     * Replaces the contents of the users, roles, tasks and assignment tables with the synthetic dataset,
+     * resets their ID sequences past the loaded rows and refreshes the planner statistics.
+     *
+     * @return the description of the loaded dataset
+     * @throws SQLException if the dataset cannot be loaded
+     * @throws IOException  if a COPY stream fails
+     */
+    Dataset generate() throws SQLException, IOException {
+        long start = System.nanoTime();
+        Random random = new Random(config.getSeed());
+        long[] userIdByRank = shuffledUserIds(random);
+        int[] taskCountByRank = new int[config.getUsers()];
+        long[] ownerByTask = assignOwners(random, userIdByRank, taskCountByRank);
+
+        try (Connection connection = dataSource.getConnection()) {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            execute(connection, "TRUNCATE users_tasks, users_roles, tasks, users RESTART IDENTITY");
+            copy(pgConnection, "COPY users (id, name, username, password) FROM STDIN", out -> {
+                for (long id = 1; id <= config.getUsers(); id++) {
+                    row(out, id, "Dataset User " + id, Dataset.username(id), PASSWORD_HASH);
+                }
+            });
+            copy(pgConnection, "COPY users_roles (user_id, role) FROM STDIN", out -> {
+                for (long id = 1; id <= config.getUsers(); id++) {
+                    row(out, id, Role.ROLE_USER.name());
+                    if (random.nextDouble() < config.getAdminRatio()) {
+                        row(out, id, Role.ROLE_ADMIN.name());
+                    }
+                }
+            });
+            copy(pgConnection, COPY_TASKS, out -> {
+                for (int task = 0; task < ownerByTask.length; task++) {
+                    long id = task + 1L;
+                    row(out, id, ownerByTask[task], "Task " + id,
+                            random.nextInt(5) == 0 ? null : "Synthetic task " + id,
+                            status(random).name(), expirationDate(random));
+                }
+            });
+            copy(pgConnection, "COPY users_tasks (user_id, task_id) FROM STDIN", out -> {
+                for (int task = 0; task < ownerByTask.length; task++) {
+                    row(out, ownerByTask[task], task + 1L);
+                }
+            });
+            execute(connection, "SELECT setval(pg_get_serial_sequence('users', 'id'), " + config.getUsers() + ")");
+            execute(connection, "SELECT setval(pg_get_serial_sequence('tasks', 'id'), "
+                    + Math.max(config.getTasks(), 1) + ")");
+            execute(connection, "VACUUM ANALYZE users, users_roles, tasks, users_tasks");
+        }
+
+        Dataset dataset = new Dataset();
+        dataset.setUsers(config.getUsers());
+        dataset.setTasks(config.getTasks());
+        dataset.setZipfExponent(config.getZipfExponent());
+        dataset.setHotUserId(userIdByRank[0]);
+        dataset.setHotUserTasks(taskCountByRank[0]);
+        int heavyRank = config.getUsers() / 100;
+        dataset.setHeavyUserId(userIdByRank[heavyRank]);
+        dataset.setHeavyUserTasks(taskCountByRank[heavyRank]);
+        dataset.setHeavyUserTaskId(firstTaskOf(ownerByTask, userIdByRank[heavyRank]));
+        int typicalRank = config.getUsers() / 2;
+        dataset.setTypicalUserId(userIdByRank[typicalRank]);
+        dataset.setTypicalUserTasks(taskCountByRank[typicalRank]);
+        dataset.setLoadSeconds((System.nanoTime() - start) / 1e9);
+        return dataset;
+    }
+
+    /**
+     * Returns the user IDs in random order, the position of an ID being its Zipf rank.
+     *
+     * @param random the random source
+     * @return the user IDs by rank
+     */
+    private long[] shuffledUserIds(Random random) {
+        long[] ids = new long[config.getUsers()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+        }
+        for (int i = ids.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+        }
+        return ids;
+    }
+
+    /**
+     * Draws the owner of every task from the Zipf distribution over user ranks.
+     *
+     * @param random          the random source
+     * @param userIdByRank    the user IDs by rank
+     * @param taskCountByRank the array receiving the number of tasks drawn for each rank
+     * @return the owner's user ID of every task, by task position
+     */
+    private long[] assignOwners(Random random, long[] userIdByRank, int[] taskCountByRank) {
+        double[] cumulative = new double[config.getUsers()];
+        double total = 0;
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            total += 1 / Math.pow(rank + 1, config.getZipfExponent());
+            cumulative[rank] = total;
+        }
+        long[] owners = new long[config.getTasks()];
+        for (int task = 0; task < owners.length; task++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            rank = Math.min(rank < 0 ? -rank - 1 : rank, cumulative.length - 1);
+            owners[task] = userIdByRank[rank];
+            taskCountByRank[rank]++;
+        }
+        return owners;
+    }
+
+    /**
+     * Returns the ID of the first task owned by the user.
+     *
+     * @param ownerByTask the owner's user ID of every task, by task position
+     * @param userId      the ID of the user
+     * @return the ID of the user's first task, or 0 if the user owns none
+     */
+    private static long firstTaskOf(long[] ownerByTask, long userId) {
+        for (int task = 0; task < ownerByTask.length; task++) {
+            if (ownerByTask[task] == userId) {
+                return task + 1L;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Draws a task status, most tasks being still to do.
+     *
+     * @param random the random source
+     * @return the status
+     */
+    private static Status status(Random random) {
+        int value = random.nextInt(100);
+        if (value < 60) {
+            return Status.TODO;
+        }
+        return value < 85 ? Status.IN_PROGRESS : Status.DONE;
+    }
+
+    /**
+     * Draws an expiration date within two years, or no date at the configured ratio.
+     *
+     * @param random the random source
+     * @return the expiration date, or null
+     */
+    private LocalDateTime expirationDate(Random random) {
+        if (random.nextDouble() < config.getNullExpirationRatio()) {
+            return null;
+        }
+        return EXPIRATION_BASE.plusMinutes(random.nextInt(EXPIRATION_SPREAD_MINUTES));
+    }
+
+    /**
+     * Streams rows into a table with COPY FROM STDIN in the text format.
+     *
+     * @param connection the PostgreSQL connection
+     * @param sql        the COPY statement
+     * @param rows       the writer of the rows
+     * @throws SQLException if the COPY fails
+     * @throws IOException  if the rows cannot be written
+     */
+    private static void copy(PGConnection connection, String sql, Rows rows) throws SQLException, IOException {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection, sql, COPY_BUFFER_SIZE), StandardCharsets.UTF_8),
+                COPY_BUFFER_SIZE)) {
+            rows.write(out);
+        }
+    }
+
+    /**
+     * Writes one row in the COPY text format. The values never contain tabs, newlines or backslashes,
+     * so they are written without escaping.
+     *
+     * @param out    the COPY stream
+     * @param values the column values, null being written as \N
+     * @throws IOException if the row cannot be written
+     */
+    private static void row(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write('\t');
+            }
+            out.write(values[i] == null ? "\\N" : values[i].toString());
+        }
+        out.write('\n');
+    }
+
+    /**
+     * Executes a statement on the connection.
+     *
+     * @param connection the connection
+     * @param sql        the statement
+     * @throws SQLException if the statement fails
+     */
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Rows interface writes the rows of one COPY.
+     */
+    @FunctionalInterface
+    private interface Rows {
+        /**
+         * Writes the rows.
+         *
+         * @param out the COPY stream
+         * @throws IOException if a row cannot be written
+         */
+        void write(Writer out) throws IOException;
+    }
+}
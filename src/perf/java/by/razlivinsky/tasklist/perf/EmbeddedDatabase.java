@@ -0,0 +1,90 @@
+package by.razlivinsky.tasklist.perf;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * EmbeddedDatabase class runs a throwaway PostgreSQL server from bundled binaries, so that the performance suites
+ * need neither a network connection nor a database installed on the host.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+final class EmbeddedDatabase implements AutoCloseable {
+    static final String SCHEMA = "tasklist";
+    static final String USERNAME = "postgres";
+
+    private final EmbeddedPostgres postgres;
+
+    /**
+     * Constructs a new EmbeddedDatabase around a started server.
+     *
+     * @param postgres the started server
+     */
+    private EmbeddedDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    /**
+     * Starts the server on a free port and creates the application schema.
+     *
+     * @return the started database
+     * @throws IOException  if the server cannot be started
+     * @throws SQLException if the schema cannot be created
+     */
+    static EmbeddedDatabase start() throws IOException, SQLException {
+        EmbeddedDatabase database = new EmbeddedDatabase(EmbeddedPostgres.builder().start());
+        try (Connection connection = database.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        }
+        return database;
+    }
+
+    /**
+     * Returns the JDBC URL of the database with the application schema as the current schema.
+     *
+     * @return the JDBC URL
+     */
+    String getJdbcUrl() {
+        return postgres.getJdbcUrl(USERNAME, USERNAME) + "&currentSchema=" + SCHEMA;
+    }
+
+    /**
+     * Returns a data source connecting to the database.
+     *
+     * @return the data source
+     */
+    DataSource getDataSource() {
+        return postgres.getPostgresDatabase();
+    }
+
+    /**
+     * Returns the command-line arguments pointing the application and its Liquibase migrations at the database.
+     *
+     * @return the application arguments
+     */
+    String[] applicationArguments() {
+        return new String[]{
+                "--spring.datasource.url=" + getJdbcUrl(),
+                "--spring.datasource.username=" + USERNAME,
+                "--spring.datasource.password=",
+                "--server.port=0"
+        };
+    }
+
+    /**
+     * Stops the server and removes its data directory.
+     *
+     * @throws IOException if the server cannot be stopped
+     */
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
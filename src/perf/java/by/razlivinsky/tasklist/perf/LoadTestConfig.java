@@ -0,0 +1,67 @@
+package by.razlivinsky.tasklist.perf;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+
+/**
+ * LoadTestConfig class holds the settings of a load test run, read from perf.* system properties.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+final class LoadTestConfig {
+    private int users;
+    private int tasksPerUser;
+    private int batchSize;
+    private int warmupSeconds;
+    private int durationSeconds;
+    private int maxInFlight;
+    private double maxErrorRate;
+    private int comparisonTasks;
+    private Path resultFile;
+
+    /**
+     * Reads the settings from the system properties, falling back to defaults sized for one developer machine.
+     *
+     * @return the load test settings
+     */
+    static LoadTestConfig fromSystemProperties() {
+        LoadTestConfig config = new LoadTestConfig();
+        config.setUsers(Integer.getInteger("perf.users", 20));
+        config.setTasksPerUser(Integer.getInteger("perf.tasksPerUser", 1000));
+        config.setBatchSize(Integer.getInteger("perf.batchSize", 500));
+        config.setWarmupSeconds(Integer.getInteger("perf.warmupSeconds", 10));
+        config.setDurationSeconds(Integer.getInteger("perf.durationSeconds", 30));
+        config.setMaxInFlight(Integer.getInteger("perf.maxInFlight", 512));
+        config.setMaxErrorRate(Double.parseDouble(System.getProperty("perf.maxErrorRate", "0.001")));
+        config.setComparisonTasks(Integer.getInteger("perf.comparisonTasks", 2000));
+        config.setResultFile(Path.of(System.getProperty("perf.resultFile", "target/perf-result.json")));
+        return config;
+    }
+
+    /**
+     * Reads the arrival rate of a scenario from perf.rate.&lt;scenario&gt;.
+     *
+     * @param scenario     the name of the scenario
+     * @param defaultValue the rate used when the property is absent
+     * @return the arrival rate in requests per second
+     */
+    static double rate(String scenario, double defaultValue) {
+        return Double.parseDouble(System.getProperty("perf.rate." + scenario, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * Reads a latency budget of a scenario from perf.budget.&lt;scenario&gt;.&lt;percentile&gt;.
+     *
+     * @param scenario     the name of the scenario
+     * @param percentile   the percentile name, such as p99
+     * @param defaultValue the budget in milliseconds used when the property is absent
+     * @return the latency budget in milliseconds
+     */
+    static double budget(String scenario, String percentile, double defaultValue) {
+        return Double.parseDouble(System.getProperty("perf.budget." + scenario + "." + percentile,
+                String.valueOf(defaultValue)));
+    }
+}
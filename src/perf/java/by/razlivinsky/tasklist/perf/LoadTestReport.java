@@ -0,0 +1,22 @@
+package by.razlivinsky.tasklist.perf;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * LoadTestReport class is the JSON report of a load test run.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+final class LoadTestReport {
+    private String startedAt;
+    private int users;
+    private int tasksPerUser;
+    private int durationSeconds;
+    private List<ScenarioResult> scenarios;
+    private BatchComparison batchComparison;
+    private boolean passed;
+}
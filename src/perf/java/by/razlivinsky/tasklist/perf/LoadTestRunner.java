@@ -0,0 +1,214 @@
+package by.razlivinsky.tasklist.perf;
+
+import by.razlivinsky.tasklist.TasklistApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * LoadTestRunner class boots the application against an embedded PostgreSQL, seeds users and tasks through the API,
+ * drives an open-model traffic mix of the login, user tasks page and task read flows, and writes the latency
+ * percentiles and throughput of every flow as JSON. The run fails when a flow exceeds its latency budgets.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public final class LoadTestRunner {
+    private static final String PASSWORD = "load-test-password";
+
+    private LoadTestRunner() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args not used; the run is configured with perf.* system properties
+     * @throws Exception if the run cannot be completed or a latency budget is exceeded
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        try (EmbeddedDatabase database = EmbeddedDatabase.start();
+             ConfigurableApplicationContext context =
+                     SpringApplication.run(TasklistApplication.class, database.applicationArguments())) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            TasklistClient client = new TasklistClient(httpClient, port);
+
+            LoadTestReport report = new LoadTestReport();
+            report.setStartedAt(Instant.now().toString());
+            report.setUsers(config.getUsers());
+            report.setTasksPerUser(config.getTasksPerUser());
+            report.setDurationSeconds(config.getDurationSeconds());
+
+            List<SeededUser> users = seed(client, config);
+            report.setBatchComparison(compareBatchInsert(client, config, users.get(0)));
+
+            List<Scenario> scenarios = scenarios(client, users);
+            OpenModelDriver driver = new OpenModelDriver(httpClient, config.getMaxInFlight());
+            driver.run(scenarios, config.getWarmupSeconds(), 1);
+            List<ScenarioResult> results = driver.run(scenarios, config.getDurationSeconds(), config.getMaxErrorRate());
+            report.setScenarios(results);
+            report.setPassed(results.stream().allMatch(ScenarioResult::isWithinBudget));
+
+            write(report, config);
+            print(report);
+            if (!report.isPassed()) {
+                throw new IllegalStateException("Latency budgets exceeded by: " + results.stream()
+                        .filter(result -> !result.isWithinBudget())
+                        .map(ScenarioResult::getName)
+                        .collect(Collectors.joining(", ")));
+            }
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Registers and logs in the users and creates their tasks with batch requests.
+     *
+     * @param client the API client
+     * @param config the load test settings
+     * @return the seeded users
+     * @throws Exception if seeding fails
+     */
+    private static List<SeededUser> seed(TasklistClient client, LoadTestConfig config) throws Exception {
+        List<SeededUser> users = new ArrayList<>(config.getUsers());
+        for (int i = 0; i < config.getUsers(); i++) {
+            String username = "load-test-user-" + i + "@tasklist.by";
+            client.register(username, PASSWORD);
+            TasklistClient.Session session = client.login(username, PASSWORD);
+            List<Long> taskIds = new ArrayList<>(config.getTasksPerUser());
+            for (int created = 0; created < config.getTasksPerUser(); created += config.getBatchSize()) {
+                taskIds.addAll(client.createTasks(session,
+                        Math.min(config.getBatchSize(), config.getTasksPerUser() - created)));
+            }
+            users.add(new SeededUser(username, session, taskIds.stream().mapToLong(Long::longValue).toArray()));
+        }
+        return users;
+    }
+
+    /**
+     * Measures creating the same number of tasks one request per task and with batch requests.
+     *
+     * @param client the API client
+     * @param config the load test settings
+     * @param user   the user the tasks are created for
+     * @return the throughput of both ways
+     * @throws Exception if a request fails
+     */
+    private static BatchComparison compareBatchInsert(TasklistClient client, LoadTestConfig config, SeededUser user)
+            throws Exception {
+        int tasks = config.getComparisonTasks();
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            client.createTask(user.session(), i);
+        }
+        double oneByOneSeconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+        start = System.nanoTime();
+        for (int created = 0; created < tasks; created += config.getBatchSize()) {
+            client.createTasks(user.session(), Math.min(config.getBatchSize(), tasks - created));
+        }
+        double batchSeconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+        BatchComparison comparison = new BatchComparison();
+        comparison.setTasks(tasks);
+        comparison.setBatchSize(config.getBatchSize());
+        comparison.setOneByOneTasksPerSecond(tasks / oneByOneSeconds);
+        comparison.setBatchTasksPerSecond(tasks / batchSeconds);
+        comparison.setSpeedup(oneByOneSeconds / batchSeconds);
+        return comparison;
+    }
+
+    /**
+     * Builds the traffic mix: logins, first pages of a user's tasks and single task reads by their owners.
+     *
+     * @param client the API client
+     * @param users  the seeded users
+     * @return the scenarios
+     */
+    private static List<Scenario> scenarios(TasklistClient client, List<SeededUser> users) {
+        return List.of(
+                Scenario.of("login", 5, 500, 1000,
+                        () -> client.loginRequest(randomUser(users).username(), PASSWORD)),
+                Scenario.of("userTasks", 200, 50, 200,
+                        () -> client.userTasksRequest(randomUser(users).session())),
+                Scenario.of("task", 400, 20, 100, () -> {
+                    SeededUser user = randomUser(users);
+                    long[] taskIds = user.taskIds();
+                    return client.taskRequest(user.session(), taskIds[ThreadLocalRandom.current().nextInt(taskIds.length)]);
+                })
+        );
+    }
+
+    /**
+     * Picks a seeded user at random.
+     *
+     * @param users the seeded users
+     * @return the user
+     */
+    private static SeededUser randomUser(List<SeededUser> users) {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    /**
+     * Writes the report as JSON to the result file.
+     *
+     * @param report the report
+     * @param config the load test settings holding the result file
+     * @throws Exception if the file cannot be written
+     */
+    private static void write(LoadTestReport report, LoadTestConfig config) throws Exception {
+        if (config.getResultFile().getParent() != null) {
+            Files.createDirectories(config.getResultFile().getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(config.getResultFile().toFile(), report);
+    }
+
+    /**
+     * Prints a summary of the report.
+     *
+     * @param report the report
+     */
+    private static void print(LoadTestReport report) {
+        System.out.printf("%-10s %10s %8s %8s %8s %8s %8s %8s %6s%n",
+                "scenario", "req/s", "p50", "p95", "p99", "p99.9", "max", "errors", "ok");
+        for (ScenarioResult result : report.getScenarios()) {
+            System.out.printf("%-10s %10.1f %8.2f %8.2f %8.2f %8.2f %8.2f %8d %6s%n",
+                    result.getName(), result.getThroughputPerSecond(), result.getP50Ms(), result.getP95Ms(),
+                    result.getP99Ms(), result.getP999Ms(), result.getMaxMs(),
+                    result.getErrors() + result.getDropped(), result.isWithinBudget());
+        }
+        BatchComparison comparison = report.getBatchComparison();
+        System.out.printf("task creation: %.1f tasks/s one by one, %.1f tasks/s in batches of %d (%.1fx)%n",
+                comparison.getOneByOneTasksPerSecond(), comparison.getBatchTasksPerSecond(),
+                comparison.getBatchSize(), comparison.getSpeedup());
+    }
+
+    /**
+     * SeededUser record holds a seeded user's credentials, session and task IDs.
+     *
+     * @param username the username of the user
+     * @param session  the session of the user
+     * @param taskIds  the IDs of the user's seeded tasks
+     */
+    private record SeededUser(String username, TasklistClient.Session session, long[] taskIds) {
+    }
+}
@@ -0,0 +1,132 @@
+package by.razlivinsky.tasklist.perf;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * OpenModelDriver class sends the requests of each scenario at a constant arrival rate, independent of how fast
+ * the server answers, and records the latency of every request from its scheduled arrival time.
+ * Requests that would exceed the in-flight limit are dropped and counted instead of delaying the schedule.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+final class OpenModelDriver {
+    private final HttpClient httpClient;
+    private final int maxInFlight;
+
+    /**
+     * Constructs a new OpenModelDriver.
+     *
+     * @param httpClient  the HTTP client sending the requests
+     * @param maxInFlight the highest number of requests in flight across all scenarios
+     */
+    OpenModelDriver(HttpClient httpClient, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Runs all scenarios concurrently for the duration and waits for the requests in flight to complete.
+     *
+     * @param scenarios       the scenarios of the traffic mix
+     * @param durationSeconds the length of the run
+     * @param maxErrorRate    the highest acceptable share of errors and dropped requests
+     * @return the results of the scenarios, in the order given
+     * @throws InterruptedException if the thread is interrupted
+     */
+    List<ScenarioResult> run(List<Scenario> scenarios, int durationSeconds, double maxErrorRate)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        List<Generator> generators = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            Generator generator = new Generator(scenario, inFlight, start, end);
+            generator.start();
+            generators.add(generator);
+        }
+        for (Generator generator : generators) {
+            generator.join();
+        }
+        if (!inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Requests still in flight 30 seconds after the run ended.");
+        }
+        inFlight.release(maxInFlight);
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Generator generator : generators) {
+            Histogram histogram = generator.latencies.getIntervalHistogram();
+            results.add(ScenarioResult.of(generator.scenario, histogram, generator.errors.sum(),
+                    generator.dropped.sum(), durationSeconds, maxErrorRate));
+        }
+        return results;
+    }
+
+    /**
+     * Generator class is the thread issuing the requests of one scenario on its schedule.
+     */
+    private final class Generator extends Thread {
+        private final Scenario scenario;
+        private final Semaphore inFlight;
+        private final long start;
+        private final long end;
+        private final Recorder latencies = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        /**
+         * Constructs a new Generator.
+         *
+         * @param scenario the scenario whose requests are issued
+         * @param inFlight the permits limiting the requests in flight
+         * @param start    the time of the first arrival, in nanoseconds
+         * @param end      the time after which no request arrives, in nanoseconds
+         */
+        private Generator(Scenario scenario, Semaphore inFlight, long start, long end) {
+            super("load-" + scenario.name());
+            this.scenario = scenario;
+            this.inFlight = inFlight;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Issues the requests at their scheduled arrival times.
+         */
+        @Override
+        public void run() {
+            double intervalNanos = TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond();
+            for (long i = 0; ; i++) {
+                long scheduled = start + (long) (i * intervalNanos);
+                if (scheduled >= end) {
+                    return;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+                httpClient.sendAsync(scenario.request().get(), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled));
+                            if (error != null || response.statusCode() >= 400) {
+                                errors.increment();
+                            }
+                            inFlight.release();
+                        });
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package by.razlivinsky.tasklist.perf;
+
+/**
+ * PlanCase record describes one execution of a mapped statement whose plan is checked: the statement,
+ * the parameter it is run with and the most shared buffers its plan may touch.
+ *
+ * @param name         the name of the case
+ * @param statement    the fully qualified ID of the mapped statement
+ * @param parameter    the parameter object the statement is run with
+ * @param bufferBudget the most shared buffers, hit or read, the execution may touch
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+record PlanCase(String name, String statement, Object parameter, long bufferBudget) {
+    /**
+     * Creates a case whose buffer budget may be overridden by the perf.plan.budget.&lt;name&gt; property.
+     *
+     * @param name          the name of the case
+     * @param statement     the fully qualified ID of the mapped statement
+     * @param parameter     the parameter object the statement is run with
+     * @param defaultBudget the buffer budget used when the property is absent
+     * @return the case
+     */
+    static PlanCase of(String name, String statement, Object parameter, long defaultBudget) {
+        return new PlanCase(name, statement, parameter, Long.getLong("perf.plan.budget." + name, defaultBudget));
+    }
+}
@@ -0,0 +1,37 @@
+package by.razlivinsky.tasklist.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * PlanResult class holds what EXPLAIN (ANALYZE, BUFFERS) measured for one plan case and whether the plan
+ * stayed within its budget: no sequential scan of an application table and no more shared buffers than allowed.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+final class PlanResult {
+    private String name;
+    private String statement;
+    private long rows;
+    private double planningMs;
+    private double executionMs;
+    private long sharedHitBlocks;
+    private long sharedReadBlocks;
+    private long bufferBudget;
+    private List<String> sequentialScans;
+    private boolean withinBudget;
+    private JsonNode plan;
+
+    /**
+     * Returns the number of shared buffers the execution touched, whether found in the cache or read.
+     *
+     * @return the number of shared buffers
+     */
+    long getSharedBlocks() {
+        return sharedHitBlocks + sharedReadBlocks;
+    }
+}
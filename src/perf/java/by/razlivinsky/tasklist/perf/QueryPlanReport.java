@@ -0,0 +1,19 @@
+package by.razlivinsky.tasklist.perf;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * QueryPlanReport class is the JSON report of a query plan suite run.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+final class QueryPlanReport {
+    private String startedAt;
+    private Dataset dataset;
+    private List<PlanResult> cases;
+    private boolean passed;
+}
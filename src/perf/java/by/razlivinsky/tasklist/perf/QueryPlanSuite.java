@@ -0,0 +1,370 @@
+package by.razlivinsky.tasklist.perf;
+
+import by.razlivinsky.tasklist.TasklistApplication;
+import by.razlivinsky.tasklist.domain.task.Status;
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.domain.task.TaskChangeType;
+import by.razlivinsky.tasklist.domain.task.TaskCriteria;
+import by.razlivinsky.tasklist.domain.task.TaskCursor;
+import by.razlivinsky.tasklist.domain.task.TaskEventType;
+import by.razlivinsky.tasklist.domain.task.TaskField;
+import by.razlivinsky.tasklist.domain.task.TaskSort;
+import by.razlivinsky.tasklist.domain.user.Role;
+import by.razlivinsky.tasklist.domain.user.User;
+import by.razlivinsky.tasklist.repository.TaskOutboxRepository;
+import by.razlivinsky.tasklist.repository.TaskRepository;
+import by.razlivinsky.tasklist.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * QueryPlanSuite class boots the application against an embedded PostgreSQL so that Liquibase creates the schema,
+ * replaces its data with a Zipf-skewed synthetic dataset, and runs every statement of the task and user mappers
+ * under EXPLAIN (ANALYZE, BUFFERS) with parameters drawn from that dataset. Each execution is rolled back, so
+ * modifying statements leave the dataset unchanged. The plans, row counts and buffer counts are written as JSON,
+ * and the run fails when a plan scans an application table sequentially, touches more shared buffers than its
+ * budget, or a mapper statement has no plan case.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+public final class QueryPlanSuite {
+    private static final String TASKS = TaskRepository.class.getName() + ".";
+    private static final String USERS = UserRepository.class.getName() + ".";
+    private static final String OUTBOX = TaskOutboxRepository.class.getName() + ".";
+    private static final Set<String> APPLICATION_TABLES = Set.of("users", "users_roles", "tasks", "users_tasks");
+    private static final String EXPLAIN = "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ";
+    private static final long POINT_BUDGET = Long.getLong("perf.plan.pointBudget", 100);
+    private static final long PAGE_BUDGET = Long.getLong("perf.plan.pageBudget", 500);
+    private static final long LIST_BUDGET = Long.getLong("perf.plan.listBudget", 2000);
+    private static final int PAGE_SIZE = 50;
+
+    private QueryPlanSuite() {
+    }
+
+    /**
+     * Runs the query plan suite.
+     *
+     * @param args not used; the run is configured with perf.dataset.* and perf.plan.* system properties
+     * @throws Exception if the run cannot be completed or a plan exceeds its budget
+     */
+    public static void main(String[] args) throws Exception {
+        Path resultFile = Path.of(System.getProperty("perf.plan.resultFile", "target/plan-result.json"));
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        try (EmbeddedDatabase database = EmbeddedDatabase.start();
+             ConfigurableApplicationContext context =
+                     SpringApplication.run(TasklistApplication.class, database.applicationArguments())) {
+            DataSource dataSource = context.getBean(DataSource.class);
+            Configuration configuration = context.getBean(SqlSessionFactory.class).getConfiguration();
+
+            QueryPlanReport report = new QueryPlanReport();
+            report.setStartedAt(Instant.now().toString());
+            Dataset dataset = new DatasetGenerator(dataSource, DatasetConfig.fromSystemProperties()).generate();
+            report.setDataset(dataset);
+
+            List<PlanCase> cases = cases(dataset);
+            List<String> uncovered = uncoveredStatements(configuration, cases);
+            if (!uncovered.isEmpty()) {
+                throw new IllegalStateException("Mapped statements without a plan case: "
+                        + String.join(", ", uncovered));
+            }
+            List<PlanResult> results = new ArrayList<>(cases.size());
+            for (PlanCase planCase : cases) {
+                explain(dataSource, configuration, planCase, objectMapper);
+                results.add(explain(dataSource, configuration, planCase, objectMapper));
+            }
+            report.setCases(results);
+            report.setPassed(results.stream().allMatch(PlanResult::isWithinBudget));
+
+            if (resultFile.getParent() != null) {
+                Files.createDirectories(resultFile.getParent());
+            }
+            objectMapper.writeValue(resultFile.toFile(), report);
+            print(report);
+            if (!report.isPassed()) {
+                throw new IllegalStateException("Query plan budgets exceeded by: " + results.stream()
+                        .filter(result -> !result.isWithinBudget())
+                        .map(PlanResult::getName)
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+    }
+
+    /**
+     * Builds the plan cases of every task, user and task outbox mapper statement. Statements returning all of a user's
+     * tasks run for the heavy user, since the hottest user's full list is expected to be large; paged and
+     * point statements run for the hottest user.
+     *
+     * @param dataset the loaded dataset
+     * @return the plan cases
+     */
+    private static List<PlanCase> cases(Dataset dataset) {
+        long hotUserId = dataset.getHotUserId();
+        long heavyUserId = dataset.getHeavyUserId();
+        long taskId = dataset.getHeavyUserTaskId();
+        LocalDateTime expiresFrom = LocalDateTime.of(2026, 6, 1, 0, 0);
+
+        TaskCriteria byId = new TaskCriteria();
+        TaskCriteria byExpiration = new TaskCriteria();
+        byExpiration.setSort(TaskSort.EXPIRATION_DATE);
+        TaskCriteria filtered = new TaskCriteria();
+        filtered.setStatus(Status.TODO);
+        filtered.setExpiresFrom(expiresFrom);
+        TaskCriteria titles = new TaskCriteria();
+        titles.setFields(Set.of(TaskField.TITLE));
+        TaskCursor idCursor = new TaskCursor(TaskSort.ID, dataset.getTasks() / 2L, null);
+        TaskCursor expirationCursor = new TaskCursor(TaskSort.EXPIRATION_DATE, dataset.getTasks() / 2L, expiresFrom);
+
+        List<PlanCase> cases = new ArrayList<>();
+        cases.add(PlanCase.of("task.findById", TASKS + "findById",
+                parameters("id", taskId, "ownerId", heavyUserId), POINT_BUDGET));
+        cases.add(PlanCase.of("task.findOwnerIdById", TASKS + "findOwnerIdById", taskId, POINT_BUDGET));
+        cases.add(PlanCase.of("task.findAllByUserId", TASKS + "findAllByUserId", heavyUserId, LIST_BUDGET));
+        cases.add(PlanCase.of("task.findIdsByUserId", TASKS + "findIdsByUserId", heavyUserId, LIST_BUDGET));
+        cases.add(PlanCase.of("task.findPageByUserId.id", TASKS + "findPageByUserId",
+                page(hotUserId, byId, null), PAGE_BUDGET));
+        cases.add(PlanCase.of("task.findPageByUserId.id.cursor", TASKS + "findPageByUserId",
+                page(hotUserId, byId, idCursor), PAGE_BUDGET));
+        cases.add(PlanCase.of("task.findPageByUserId.expiration", TASKS + "findPageByUserId",
+                page(hotUserId, byExpiration, null), PAGE_BUDGET));
+        cases.add(PlanCase.of("task.findPageByUserId.expiration.cursor", TASKS + "findPageByUserId",
+                page(hotUserId, byExpiration, expirationCursor), PAGE_BUDGET));
+        cases.add(PlanCase.of("task.findPageByUserId.filtered", TASKS + "findPageByUserId",
+                page(hotUserId, filtered, null), PAGE_BUDGET));
+        cases.add(PlanCase.of("task.streamAllByUserId", TASKS + "streamAllByUserId",
+                parameters("userId", heavyUserId, "criteria", titles), LIST_BUDGET));
+        cases.add(PlanCase.of("task.assignToUserById", TASKS + "assignToUserById",
+                parameters("taskId", taskId, "userId", dataset.getTypicalUserId()), POINT_BUDGET));
+        cases.add(PlanCase.of("task.update", TASKS + "update",
+                parameters("task", task(taskId), "ownerId", heavyUserId), POINT_BUDGET));
+        cases.add(PlanCase.of("task.create", TASKS + "create",
+                parameters("task", task(null), "userId", heavyUserId), POINT_BUDGET));
+        cases.add(PlanCase.of("task.createAll", TASKS + "createAll", parameters("tasks",
+                IntStream.range(0, PAGE_SIZE).mapToObj(i -> task(null)).toList(), "userId", heavyUserId),
+                LIST_BUDGET));
+        cases.add(PlanCase.of("task.delete", TASKS + "delete",
+                parameters("id", taskId, "ownerId", heavyUserId), POINT_BUDGET));
+        cases.add(PlanCase.of("task.deleteChunkByOwnerId", TASKS + "deleteChunkByOwnerId",
+                parameters("userId", heavyUserId, "limit", PAGE_SIZE), LIST_BUDGET));
+        cases.add(PlanCase.of("task.deleteAssignmentChunkByUserId", TASKS + "deleteAssignmentChunkByUserId",
+                parameters("userId", heavyUserId, "limit", PAGE_SIZE), LIST_BUDGET));
+        cases.add(PlanCase.of("task.notifyChange", TASKS + "notifyChange",
+                parameters("taskId", taskId, "ownerId", heavyUserId, "type", TaskEventType.UPDATED), POINT_BUDGET));
+        cases.add(PlanCase.of("task.notifyReload", TASKS + "notifyReload", heavyUserId, POINT_BUDGET));
+
+        cases.add(PlanCase.of("user.findById", USERS + "findById", heavyUserId, LIST_BUDGET));
+        cases.add(PlanCase.of("user.findByUsername", USERS + "findByUsername",
+                Dataset.username(heavyUserId), LIST_BUDGET));
+        cases.add(PlanCase.of("user.findPrincipalById", USERS + "findPrincipalById", hotUserId, POINT_BUDGET));
+        cases.add(PlanCase.of("user.findPrincipalByUsername", USERS + "findPrincipalByUsername",
+                Dataset.username(hotUserId), POINT_BUDGET));
+        cases.add(PlanCase.of("user.update", USERS + "update", user(heavyUserId), POINT_BUDGET));
+        cases.add(PlanCase.of("user.updatePassword", USERS + "updatePassword",
+                parameters("id", heavyUserId, "password", "rehashed"), POINT_BUDGET));
+        cases.add(PlanCase.of("user.create", USERS + "create", user(null), POINT_BUDGET));
+        cases.add(PlanCase.of("user.insertUserRole", USERS + "insertUserRole",
+                parameters("userId", dataset.getTypicalUserId(), "role", Role.ROLE_ADMIN), POINT_BUDGET));
+        cases.add(PlanCase.of("user.isTaskOwner", USERS + "isTaskOwner",
+                parameters("userId", heavyUserId, "taskId", taskId), POINT_BUDGET));
+        cases.add(PlanCase.of("user.isActive", USERS + "isActive", hotUserId, POINT_BUDGET));
+        cases.add(PlanCase.of("user.existsByUsername", USERS + "existsByUsername",
+                Dataset.username(heavyUserId), POINT_BUDGET));
+        cases.add(PlanCase.of("user.markDeleted", USERS + "markDeleted", dataset.getTypicalUserId(), POINT_BUDGET));
+        cases.add(PlanCase.of("user.findDeletedIds", USERS + "findDeletedIds", PAGE_SIZE, POINT_BUDGET));
+        cases.add(PlanCase.of("user.countDeleted", USERS + "countDeleted", null, POINT_BUDGET));
+        cases.add(PlanCase.of("user.delete", USERS + "delete", dataset.getTypicalUserId(), POINT_BUDGET));
+
+        cases.add(PlanCase.of("outbox.append", OUTBOX + "append",
+                parameters("taskId", taskId, "ownerId", heavyUserId, "type", TaskChangeType.UPDATED), POINT_BUDGET));
+        cases.add(PlanCase.of("outbox.claimBatch", OUTBOX + "claimBatch", PAGE_SIZE, PAGE_BUDGET));
+        cases.add(PlanCase.of("outbox.advanceOffset", OUTBOX + "advanceOffset",
+                parameters("sink", "file", "lastEventId", 1L, "delivered", PAGE_SIZE), POINT_BUDGET));
+        return cases;
+    }
+
+    /**
+     * Lists the task, user and task outbox mapper statements that no plan case runs.
+     *
+     * @param configuration the MyBatis configuration
+     * @param cases         the plan cases
+     * @return the IDs of the uncovered statements, in order
+     */
+    private static List<String> uncoveredStatements(Configuration configuration, List<PlanCase> cases) {
+        Set<String> covered = cases.stream()
+                .map(PlanCase::statement)
+                .collect(Collectors.toSet());
+        return configuration.getMappedStatementNames().stream()
+                .filter(name -> name.startsWith(TASKS) || name.startsWith(USERS) || name.startsWith(OUTBOX))
+                .filter(name -> !covered.contains(name))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Runs the statement of the case under EXPLAIN (ANALYZE, BUFFERS) in a transaction that is rolled back,
+     * binding the parameter with the statement's own type handlers, and checks the plan against the budget.
+     *
+     * @param dataSource    the data source of the application schema
+     * @param configuration the MyBatis configuration
+     * @param planCase      the plan case
+     * @param objectMapper  the object mapper parsing the plan
+     * @return the result of the case
+     * @throws Exception if the statement cannot be explained
+     */
+    private static PlanResult explain(DataSource dataSource, Configuration configuration, PlanCase planCase,
+                                      ObjectMapper objectMapper) throws Exception {
+        MappedStatement statement = configuration.getMappedStatement(planCase.statement());
+        BoundSql boundSql = statement.getBoundSql(planCase.parameter());
+        JsonNode explained;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement explain = connection.prepareStatement(EXPLAIN + boundSql.getSql())) {
+                configuration.newParameterHandler(statement, planCase.parameter(), boundSql).setParameters(explain);
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    resultSet.next();
+                    explained = objectMapper.readTree(resultSet.getString(1)).get(0);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Cannot explain " + planCase.name() + ": " + e.getMessage(), e);
+            } finally {
+                connection.rollback();
+            }
+        }
+
+        JsonNode plan = explained.get("Plan");
+        PlanResult result = new PlanResult();
+        result.setName(planCase.name());
+        result.setStatement(planCase.statement());
+        result.setRows(plan.path("Actual Rows").asLong() * plan.path("Actual Loops").asLong(1));
+        result.setPlanningMs(explained.path("Planning Time").asDouble());
+        result.setExecutionMs(explained.path("Execution Time").asDouble());
+        result.setSharedHitBlocks(plan.path("Shared Hit Blocks").asLong());
+        result.setSharedReadBlocks(plan.path("Shared Read Blocks").asLong());
+        result.setBufferBudget(planCase.bufferBudget());
+        List<String> sequentialScans = new ArrayList<>();
+        collectSequentialScans(plan, sequentialScans);
+        result.setSequentialScans(sequentialScans);
+        result.setWithinBudget(sequentialScans.isEmpty() && result.getSharedBlocks() <= planCase.bufferBudget());
+        result.setPlan(explained);
+        return result;
+    }
+
+    /**
+     * Collects the application tables the plan node and its children scan sequentially.
+     *
+     * @param node            the plan node
+     * @param sequentialScans the list receiving the names of the scanned tables
+     */
+    private static void collectSequentialScans(JsonNode node, List<String> sequentialScans) {
+        String relation = node.path("Relation Name").asText().replaceFirst("_p\\d+$", "");
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && APPLICATION_TABLES.contains(relation)) {
+            sequentialScans.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, sequentialScans);
+        }
+    }
+
+    /**
+     * Builds the parameters of a page query.
+     *
+     * @param userId   the ID of the user
+     * @param criteria the filters and ordering
+     * @param cursor   the keyset position, or null for the first page
+     * @return the parameters
+     */
+    private static Map<String, Object> page(long userId, TaskCriteria criteria, TaskCursor cursor) {
+        Map<String, Object> parameters = parameters("userId", userId, "criteria", criteria, "limit", PAGE_SIZE);
+        parameters.put("cursor", cursor);
+        return parameters;
+    }
+
+    /**
+     * Builds named parameters the way MyBatis passes @Param arguments.
+     *
+     * @param namesAndValues the alternating parameter names and values
+     * @return the parameters
+     */
+    private static Map<String, Object> parameters(Object... namesAndValues) {
+        Map<String, Object> parameters = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            parameters.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return parameters;
+    }
+
+    /**
+     * Builds a task to create or update.
+     *
+     * @param id the ID of the task, or null for a new task
+     * @return the task
+     */
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Planned task");
+        task.setDescription("Query plan suite");
+        task.setStatus(Status.IN_PROGRESS);
+        task.setExpirationDate(LocalDateTime.of(2027, 1, 1, 12, 0));
+        return task;
+    }
+
+    /**
+     * Builds a user to create or update.
+     *
+     * @param id the ID of the user, or null for a new user
+     * @return the user
+     */
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Planned User");
+        user.setUsername(id == null ? "planned-user@tasklist.by" : Dataset.username(id));
+        user.setPassword("planned-password");
+        return user;
+    }
+
+    /**
+     * Prints a summary of the report.
+     *
+     * @param report the report
+     */
+    private static void print(QueryPlanReport report) {
+        Dataset dataset = report.getDataset();
+        System.out.printf("dataset: %d users, %d tasks, zipf %.2f, loaded in %.1f s; tasks of the hottest user %d, "
+                        + "of the top 1%% user %d, of the median user %d%n",
+                dataset.getUsers(), dataset.getTasks(), dataset.getZipfExponent(), dataset.getLoadSeconds(),
+                dataset.getHotUserTasks(), dataset.getHeavyUserTasks(), dataset.getTypicalUserTasks());
+        System.out.printf("%-42s %8s %10s %10s %8s %8s %6s%n",
+                "case", "rows", "exec ms", "buffers", "budget", "seqscan", "ok");
+        for (PlanResult result : report.getCases()) {
+            System.out.printf("%-42s %8d %10.3f %10d %8d %8s %6s%n",
+                    result.getName(), result.getRows(), result.getExecutionMs(), result.getSharedBlocks(),
+                    result.getBufferBudget(), String.join(",", result.getSequentialScans()), result.isWithinBudget());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package by.razlivinsky.tasklist.perf;
+
+import java.net.http.HttpRequest;
+import java.util.function.Supplier;
+
+/**
+ * Scenario record describes one kind of request of a traffic mix, the rate at which it arrives and its budgets.
+ *
+ * @param name          the name of the scenario
+ * @param ratePerSecond the constant arrival rate in requests per second
+ * @param request       the supplier of the next request
+ * @param budgetP99Ms   the 99th percentile latency budget in milliseconds
+ * @param budgetP999Ms  the 99.9th percentile latency budget in milliseconds
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+record Scenario(String name, double ratePerSecond, Supplier<HttpRequest> request,
+                double budgetP99Ms, double budgetP999Ms) {
+    /**
+     * Creates a scenario whose rate and budgets may be overridden by perf.rate.* and perf.budget.* properties.
+     *
+     * @param name         the name of the scenario
+     * @param rate         the default arrival rate in requests per second
+     * @param budgetP99Ms  the default 99th percentile budget in milliseconds
+     * @param budgetP999Ms the default 99.9th percentile budget in milliseconds
+     * @param request      the supplier of the next request
+     * @return the scenario
+     */
+    static Scenario of(String name, double rate, double budgetP99Ms, double budgetP999Ms,
+                       Supplier<HttpRequest> request) {
+        return new Scenario(name, LoadTestConfig.rate(name, rate), request,
+                LoadTestConfig.budget(name, "p99", budgetP99Ms), LoadTestConfig.budget(name, "p999", budgetP999Ms));
+    }
+}
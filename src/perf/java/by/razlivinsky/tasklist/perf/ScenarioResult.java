@@ -0,0 +1,75 @@
+package by.razlivinsky.tasklist.perf;
+
+import lombok.Data;
+import org.HdrHistogram.Histogram;
+
+/**
+ * ScenarioResult class holds the latency percentiles, throughput and errors measured for one scenario.
+ * Latencies are measured from the time each request was scheduled to arrive, so queueing caused by a slow
+ * server is included rather than hidden.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+@Data
+final class ScenarioResult {
+    private String name;
+    private double targetRatePerSecond;
+    private long requests;
+    private long errors;
+    private long dropped;
+    private double throughputPerSecond;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+    private double budgetP99Ms;
+    private double budgetP999Ms;
+    private boolean withinBudget;
+
+    /**
+     * Builds the result of a scenario from its latency histogram, recorded in microseconds.
+     *
+     * @param scenario        the scenario
+     * @param histogram       the latency histogram of the completed requests
+     * @param errors          the number of failed or unsuccessful requests
+     * @param dropped         the number of requests not sent because too many were in flight
+     * @param durationSeconds the length of the measurement
+     * @param maxErrorRate    the highest acceptable share of errors and dropped requests
+     * @return the scenario result
+     */
+    static ScenarioResult of(Scenario scenario, Histogram histogram, long errors, long dropped,
+                             double durationSeconds, double maxErrorRate) {
+        ScenarioResult result = new ScenarioResult();
+        result.setName(scenario.name());
+        result.setTargetRatePerSecond(scenario.ratePerSecond());
+        result.setRequests(histogram.getTotalCount());
+        result.setErrors(errors);
+        result.setDropped(dropped);
+        result.setThroughputPerSecond(histogram.getTotalCount() / durationSeconds);
+        result.setP50Ms(millis(histogram.getValueAtPercentile(50)));
+        result.setP95Ms(millis(histogram.getValueAtPercentile(95)));
+        result.setP99Ms(millis(histogram.getValueAtPercentile(99)));
+        result.setP999Ms(millis(histogram.getValueAtPercentile(99.9)));
+        result.setMaxMs(millis(histogram.getMaxValue()));
+        result.setBudgetP99Ms(scenario.budgetP99Ms());
+        result.setBudgetP999Ms(scenario.budgetP999Ms());
+        long attempted = histogram.getTotalCount() + dropped;
+        double errorRate = attempted == 0 ? 1 : (double) (errors + dropped) / attempted;
+        result.setWithinBudget(result.getP99Ms() <= scenario.budgetP99Ms()
+                && result.getP999Ms() <= scenario.budgetP999Ms()
+                && errorRate <= maxErrorRate);
+        return result;
+    }
+
+    /**
+     * Converts microseconds to milliseconds.
+     *
+     * @param micros the value in microseconds
+     * @return the value in milliseconds
+     */
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
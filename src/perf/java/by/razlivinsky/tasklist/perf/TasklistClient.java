@@ -0,0 +1,215 @@
+package by.razlivinsky.tasklist.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TasklistClient class builds the HTTP requests of the tasklist API and performs the ones needed to seed a run.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+final class TasklistClient {
+    private static final String JSON = "application/json";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    /**
+     * Constructs a new TasklistClient for the application listening on the port.
+     *
+     * @param httpClient the HTTP client sending the requests
+     * @param port       the port of the application
+     */
+    TasklistClient(HttpClient httpClient, int port) {
+        this.httpClient = httpClient;
+        this.baseUrl = "http://localhost:" + port + "/api/v1";
+    }
+
+    /**
+     * Registers a user.
+     *
+     * @param username the username of the user
+     * @param password the password of the user
+     * @throws IOException          if the request fails
+     * @throws InterruptedException if the thread is interrupted
+     */
+    void register(String username, String password) throws IOException, InterruptedException {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("name", username);
+        user.put("username", username);
+        user.put("password", password);
+        user.put("passwordConfirmation", password);
+        send(post("/auth/register", null, user));
+    }
+
+    /**
+     * Logs a user in.
+     *
+     * @param username the username of the user
+     * @param password the password of the user
+     * @return the logged in session holding the user ID and the access token
+     * @throws IOException          if the request fails
+     * @throws InterruptedException if the thread is interrupted
+     */
+    Session login(String username, String password) throws IOException, InterruptedException {
+        JsonNode response = send(loginRequest(username, password));
+        return new Session(response.get("id").asLong(), response.get("accessToken").asText());
+    }
+
+    /**
+     * Creates tasks for the user with one batch request.
+     *
+     * @param session the session of the user
+     * @param count   the number of tasks to create
+     * @return the IDs of the created tasks
+     * @throws IOException          if the request fails
+     * @throws InterruptedException if the thread is interrupted
+     */
+    List<Long> createTasks(Session session, int count) throws IOException, InterruptedException {
+        List<Map<String, Object>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i));
+        }
+        JsonNode response = send(post("/users/" + session.userId() + "/tasks/batch", session, tasks));
+        List<Long> ids = new ArrayList<>(count);
+        response.forEach(task -> ids.add(task.get("id").asLong()));
+        return ids;
+    }
+
+    /**
+     * Creates one task for the user.
+     *
+     * @param session the session of the user
+     * @param index   the index the task title is derived from
+     * @return the ID of the created task
+     * @throws IOException          if the request fails
+     * @throws InterruptedException if the thread is interrupted
+     */
+    long createTask(Session session, int index) throws IOException, InterruptedException {
+        return send(post("/users/" + session.userId() + "/tasks", session, task(index))).get("id").asLong();
+    }
+
+    /**
+     * Builds the login request.
+     *
+     * @param username the username of the user
+     * @param password the password of the user
+     * @return the request
+     */
+    HttpRequest loginRequest(String username, String password) {
+        return post("/auth/login", null, Map.of("username", username, "password", password));
+    }
+
+    /**
+     * Builds the request of the first page of the user's tasks.
+     *
+     * @param session the session of the user
+     * @return the request
+     */
+    HttpRequest userTasksRequest(Session session) {
+        return get("/users/" + session.userId() + "/tasks", session);
+    }
+
+    /**
+     * Builds the request of one task.
+     *
+     * @param session the session of the task owner
+     * @param taskId  the ID of the task
+     * @return the request
+     */
+    HttpRequest taskRequest(Session session, long taskId) {
+        return get("/tasks/" + taskId, session);
+    }
+
+    /**
+     * Builds a task with a title, a description and an expiration date.
+     *
+     * @param index the index the fields are derived from
+     * @return the task as a JSON object
+     */
+    private static Map<String, Object> task(int index) {
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("title", "Load test task " + index);
+        task.put("description", "Created by the load test");
+        task.put("expirationDate", String.format("2027-%02d-%02d 12:00", index % 12 + 1, index % 28 + 1));
+        return task;
+    }
+
+    /**
+     * Builds a GET request.
+     *
+     * @param path    the path below /api/v1
+     * @param session the session authorizing the request, or null
+     * @return the request
+     */
+    private HttpRequest get(String path, Session session) {
+        return authorized(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET(), session).build();
+    }
+
+    /**
+     * Builds a POST request with a JSON body.
+     *
+     * @param path    the path below /api/v1
+     * @param session the session authorizing the request, or null
+     * @param body    the object serialized as the body
+     * @return the request
+     */
+    private HttpRequest post(String path, Session session, Object body) {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", JSON)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            return authorized(builder, session).build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Adds the bearer token of the session to the request.
+     *
+     * @param builder the request builder
+     * @param session the session, or null for an anonymous request
+     * @return the request builder
+     */
+    private static HttpRequest.Builder authorized(HttpRequest.Builder builder, Session session) {
+        return session == null ? builder : builder.header("Authorization", "Bearer " + session.accessToken());
+    }
+
+    /**
+     * Sends a seeding request and parses its JSON response.
+     *
+     * @param request the request
+     * @return the JSON response
+     * @throws IOException          if the request fails or is not successful
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IOException(request.uri() + " answered " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    /**
+     * Session record holds the ID and the access token of a logged in user.
+     *
+     * @param userId      the ID of the user
+     * @param accessToken the access token of the user
+     */
+    record Session(long userId, String accessToken) {
+    }
+}
@@ -0,0 +1,261 @@
+package by.razlivinsky.tasklist.web.stream;
+
+import by.razlivinsky.tasklist.domain.task.Task;
+import by.razlivinsky.tasklist.web.dto.task.TaskImportDto;
+import by.razlivinsky.tasklist.web.mappers.TaskMapperImpl;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TaskCsvReaderTest class checks the CSV parsing of TaskCsvReader: quoting, line endings, the byte order mark,
+ * the bounds on fields, and the line numbers reported for rejected rows.
+ *
+ * @author razlivinsky
+ * @since 18.10.2026
+ */
+class TaskCsvReaderTest {
+    private static final int MAX_REPORTED_REJECTIONS = 10;
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    /**
+     * Builds the validator shared by the tests.
+     */
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    /**
+     * Closes the validator factory.
+     */
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    /**
+     * Doubled quotes inside a quoted field are read as one quote, and a quoted field may span lines.
+     */
+    @Test
+    void readsQuotedFieldsWithEscapedQuotesAndLineBreaks() {
+        TaskCsvReader reader = reader("title,description\n"
+                + "\"Say \"\"hi\"\"\",\"first\nsecond\"\n"
+                + "\"a, b\",\n");
+
+        List<Task> tasks = readAll(reader);
+
+        assertThat(tasks).hasSize(2);
+        assertThat(tasks.get(0).getTitle()).isEqualTo("Say \"hi\"");
+        assertThat(tasks.get(0).getDescription()).isEqualTo("first\nsecond");
+        assertThat(tasks.get(1).getTitle()).isEqualTo("a, b");
+        assertThat(tasks.get(1).getDescription()).isNull();
+        assertThat(reader.getRejected()).isZero();
+    }
+
+    /**
+     * An empty quoted field is read as an empty string, while an empty unquoted field is read as null.
+     */
+    @Test
+    void distinguishesEmptyQuotedFieldsFromMissingOnes() {
+        List<Task> tasks = readAll(reader("title,description\nA,\"\"\nB,\n"));
+
+        assertThat(tasks).extracting(Task::getDescription).containsExactly("", null);
+    }
+
+    /**
+     * Lines ending with CRLF are read like lines ending with LF, without a trailing carriage return.
+     */
+    @Test
+    void readsCrlfLineEndings() {
+        TaskCsvReader reader = reader("title,description,expirationDate\r\n"
+                + "A,B,2030-01-02 03:04\r\n"
+                + "C,D,\r\n");
+
+        List<Task> tasks = readAll(reader);
+
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("A", "C");
+        assertThat(tasks).extracting(Task::getDescription).containsExactly("B", "D");
+        assertThat(tasks.get(0).getExpirationDate()).isEqualTo(LocalDateTime.of(2030, 1, 2, 3, 4));
+        assertThat(tasks.get(1).getExpirationDate()).isNull();
+    }
+
+    /**
+     * A byte order mark before the header does not become part of the first column name.
+     */
+    @Test
+    void skipsByteOrderMarkBeforeHeader() {
+        List<Task> tasks = readAll(reader("\uFEFFtitle,description\nA,B\n"));
+
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("A");
+    }
+
+    /**
+     * The last row is read even if it does not end with a line break, and blank lines are skipped.
+     */
+    @Test
+    void readsLastRowWithoutLineBreakAndSkipsBlankLines() {
+        List<Task> tasks = readAll(reader("title\nA\n\nB"));
+
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("A", "B");
+    }
+
+    /**
+     * An oversized field is cut at the maximum field length, so the row is rejected by the length rule,
+     * and the rows after it are still read.
+     */
+    @Test
+    void rejectsOversizedFieldsAndKeepsReading() {
+        String oversized = "x".repeat(100_000);
+        TaskCsvReader reader = reader("title,description\n"
+                + oversized + ",A\n"
+                + "B,\"" + oversized + "\"\n"
+                + "C,D\n");
+
+        List<Task> tasks = readAll(reader);
+
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("C");
+        assertThat(reader.getRejected()).isEqualTo(2);
+        assertThat(reader.getRejections()).extracting(TaskImportDto.Rejection::getErrors).containsExactly(
+                List.of("Title length must be smaller than 255 symbols."),
+                List.of("Description length must be smaller than 255 symbols."));
+    }
+
+    /**
+     * A row with more or fewer fields than the header is rejected.
+     */
+    @Test
+    void rejectsRowsWithWrongNumberOfFields() {
+        TaskCsvReader reader = reader("title,description\n"
+                + "A,B,C,D,E\n"
+                + "F\n"
+                + "G,H\n");
+
+        List<Task> tasks = readAll(reader);
+
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("G");
+        assertThat(reader.getRejections())
+                .extracting(TaskImportDto.Rejection::getErrors)
+                .containsOnly(List.of("Row must have 2 fields."));
+    }
+
+    /**
+     * A header with more columns than the reader keeps is refused.
+     */
+    @Test
+    void refusesHeaderWithTooManyColumns() {
+        String header = String.join(",", Collections.nCopies(17, "title"));
+
+        assertThatThrownBy(() -> reader(header + "\nA\n"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("CSV header has too many columns.");
+    }
+
+    /**
+     * A header naming an unknown or duplicate column, or lacking the title, is refused.
+     */
+    @Test
+    void refusesInvalidHeaders() {
+        assertThatThrownBy(() -> reader(""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("CSV header is missing.");
+        assertThatThrownBy(() -> reader("title,owner\n"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unknown CSV column: owner.");
+        assertThatThrownBy(() -> reader("title,expiration_date,expirationDate\n"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Duplicate CSV column: expirationDate.");
+        assertThatThrownBy(() -> reader("description\n"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("CSV header must contain the title column.");
+    }
+
+    /**
+     * A quoted field still open at the end of the CSV fails the import, naming the line it starts on.
+     */
+    @Test
+    void failsOnUnterminatedQuote() {
+        TaskCsvReader reader = reader("title,description\nA,B\nC,\"open\nnever closed\n");
+
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.next().getTitle()).isEqualTo("A");
+        assertThatThrownBy(reader::hasNext)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Quoted field starting on line 3 is not terminated.");
+    }
+
+    /**
+     * Rejections report the line a row starts on, counting the line breaks inside quoted fields and blank lines.
+     */
+    @Test
+    void reportsLineNumbersOfRejectedRows() {
+        TaskCsvReader reader = reader("title,description,expirationDate\r\n"
+                + "\"multi\r\nline\",x,\r\n"
+                + ",missing title,\r\n"
+                + "\r\n"
+                + "bad date,x,tomorrow\r\n"
+                + "Ok,,\r\n");
+
+        List<Task> tasks = readAll(reader);
+
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("multi\r\nline", "Ok");
+        assertThat(reader.getRejections()).extracting(TaskImportDto.Rejection::getLine).containsExactly(4L, 6L);
+        assertThat(reader.getRejections()).extracting(TaskImportDto.Rejection::getErrors).containsExactly(
+                List.of("Title must be not null."),
+                List.of("Expiration date must match yyyy-MM-dd HH:mm."));
+    }
+
+    /**
+     * Only the first rejections are reported, while all of them are counted.
+     */
+    @Test
+    void reportsOnlyFirstRejections() {
+        StringBuilder csv = new StringBuilder("title,description\n");
+        for (int i = 0; i < MAX_REPORTED_REJECTIONS + 5; i++) {
+            csv.append(",x\n");
+        }
+        TaskCsvReader reader = reader(csv.toString());
+
+        assertThat(readAll(reader)).isEmpty();
+        assertThat(reader.getRejected()).isEqualTo(MAX_REPORTED_REJECTIONS + 5);
+        assertThat(reader.getRejections()).hasSize(MAX_REPORTED_REJECTIONS);
+        assertThat(reader.getRejections().get(0).getLine()).isEqualTo(2L);
+    }
+
+    /**
+     * Creates a reader of the CSV.
+     *
+     * @param csv the CSV
+     * @return the reader
+     */
+    private static TaskCsvReader reader(String csv) {
+        return new TaskCsvReader(new StringReader(csv), validator, new TaskMapperImpl(), MAX_REPORTED_REJECTIONS);
+    }
+
+    /**
+     * Reads all valid rows.
+     *
+     * @param reader the reader
+     * @return the tasks of the valid rows
+     */
+    private static List<Task> readAll(TaskCsvReader reader) {
+        List<Task> tasks = new ArrayList<>();
+        reader.forEachRemaining(tasks::add);
+        return tasks;
+    }
+}